@@ -0,0 +1,280 @@
+package com.worksit.app.commons;
+
+import android.app.Activity;
+import android.content.ActivityNotFoundException;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.content.pm.ActivityInfo;
+import android.content.pm.ResolveInfo;
+import android.net.Uri;
+
+import com.worksit.app.commons.callbacks.CallbackDispatcher;
+import com.worksit.app.commons.callbacks.GenericCallback;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Whether other apps are installed, with their launch intents and store links, resolved in
+ * batches and cached.
+ *
+ * {@link #resolve(Collection, GenericCallback)} answers a whole list with a single launcher
+ * query on a background thread, so binding a list of partner apps is a map read and
+ * {@link #launch(Activity, String)} starts the app without asking the PackageManager again; a
+ * package not resolved yet costs a launcher query restricted to it, never a full scan.
+ * Package broadcasts drop the entry of the package that changed.
+ */
+public final class AppAvailability {
+
+    /**
+     * Resolution of one package.
+     */
+    public static final class App {
+        private final String packageName;
+        private final Intent launchIntent;
+        private final Uri marketUri;
+        private final Uri webUri;
+
+        App(String packageName, Intent launchIntent) {
+            this.packageName = packageName;
+            this.launchIntent = launchIntent;
+            this.marketUri = Uri.parse("market://details?id=" + packageName);
+            this.webUri = Uri.parse("http://play.google.com/store/apps/details?id=" + packageName);
+        }
+
+        public String getPackageName() {
+            return packageName;
+        }
+
+        /**
+         * @return <em>true</em> when the app is installed and has a launcher activity
+         */
+        public boolean isInstalled() {
+            return launchIntent != null;
+        }
+
+        /**
+         * A copy of the launch intent, <em>null</em> when the app is not installed.
+         */
+        public Intent getLaunchIntent() {
+            return launchIntent == null ? null : new Intent(launchIntent);
+        }
+
+        public Uri getMarketUri() {
+            return marketUri;
+        }
+
+        public Uri getWebUri() {
+            return webUri;
+        }
+    }
+
+    private static AppAvailability instance;
+
+    private final LauncherIndex.ActivityQuery query;
+    private final Map<String, App> apps = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "AppAvailability");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+    private CallbackDispatcher dispatcher;
+
+    AppAvailability(LauncherIndex.ActivityQuery query) {
+        this.query = query;
+    }
+
+    public static synchronized AppAvailability get(Context context) {
+        if (instance == null) {
+            final Context application = context.getApplicationContext();
+            instance = new AppAvailability(new LauncherIndex.ActivityQuery() {
+                @Override
+                public List<ResolveInfo> query(Intent intent) {
+                    return application.getPackageManager().queryIntentActivities(intent, 0);
+                }
+            });
+            instance.registerReceiver(application);
+        }
+        return instance;
+    }
+
+    /**
+     * Resolves the packages that are not cached yet in one background pass and delivers every
+     * requested package, in order, on the main thread.
+     */
+    public void resolve(final Collection<String> packageNames, GenericCallback<Map<String, App>> callback) {
+        final GenericCallback<Map<String, App>> main = dispatcher().wrap(callback);
+        final List<String> requested = new ArrayList<>(packageNames);
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                Map<String, App> result;
+                try {
+                    result = resolveNow(requested);
+                }
+                catch (RuntimeException e) {
+                    main.onError(e);
+                    return;
+                }
+                main.onSuccess(result);
+            }
+        });
+    }
+
+    /**
+     * Cached resolution, <em>null</em> when the package was not resolved yet.
+     */
+    public App peek(String packageName) {
+        return apps.get(packageName);
+    }
+
+    /**
+     * Resolves on the calling thread, querying only for packages not cached.
+     */
+    public Map<String, App> resolveNow(Collection<String> packageNames) {
+        List<String> missing = null;
+        for (String packageName : packageNames) {
+            if (!apps.containsKey(packageName)) {
+                if (missing == null)
+                    missing = new ArrayList<>();
+                missing.add(packageName);
+            }
+        }
+        Map<String, App> resolved = null;
+        if (missing != null && missing.size() == 1)
+            resolved = Collections.singletonMap(missing.get(0), resolveOne(missing.get(0)));
+        else if (missing != null)
+            resolved = query(missing);
+
+        Map<String, App> result = new LinkedHashMap<>(packageNames.size() * 2);
+        for (String packageName : packageNames) {
+            App app = apps.get(packageName);
+            // invalidado por um broadcast enquanto era resolvido
+            if (app == null && resolved != null)
+                app = resolved.get(packageName);
+            result.put(packageName, app);
+        }
+        return result;
+    }
+
+    /**
+     * Opens the app, or its page in the store when it is not installed.
+     */
+    public void launch(Activity activity, String packageName) {
+        App app = apps.get(packageName);
+        if (app == null)
+            app = resolveOne(packageName);
+
+        if (app.isInstalled()) {
+            activity.startActivity(app.getLaunchIntent());
+            return;
+        }
+        try {
+            activity.startActivity(new Intent(Intent.ACTION_VIEW, app.getMarketUri()));
+        }
+        catch (ActivityNotFoundException e) {
+            activity.startActivity(new Intent(Intent.ACTION_VIEW, app.getWebUri()));
+        }
+    }
+
+    public void invalidate(String packageName) {
+        apps.remove(packageName);
+    }
+
+    public void invalidateAll() {
+        apps.clear();
+    }
+
+    /**
+     * Launcher query restricted to the package, cheap enough for a miss on the main thread.
+     */
+    App resolveOne(String packageName) {
+        Intent main = new Intent(Intent.ACTION_MAIN);
+        main.addCategory(Intent.CATEGORY_LAUNCHER);
+        main.setPackage(packageName);
+        List<ResolveInfo> launchers = query.query(main);
+
+        // como getLaunchIntentForPackage: a primeira activity do pacote
+        App app = new App(packageName, launchers.isEmpty() ? null : launchIntent(launchers.get(0).activityInfo));
+        apps.put(packageName, app);
+        return app;
+    }
+
+    /**
+     * One launcher query for all the packages; those without a launcher activity are cached as
+     * not installed.
+     */
+    private Map<String, App> query(List<String> packageNames) {
+        Intent main = new Intent(Intent.ACTION_MAIN);
+        main.addCategory(Intent.CATEGORY_LAUNCHER);
+        List<ResolveInfo> launchers = query.query(main);
+
+        Map<String, ActivityInfo> byPackage = new HashMap<>(launchers.size() * 2);
+        for (ResolveInfo info : launchers) {
+            ActivityInfo activity = info.activityInfo;
+            // como getLaunchIntentForPackage: a primeira activity do pacote
+            if (!byPackage.containsKey(activity.packageName))
+                byPackage.put(activity.packageName, activity);
+        }
+
+        Map<String, App> resolved = new HashMap<>(packageNames.size() * 2);
+        for (String packageName : packageNames) {
+            ActivityInfo activity = byPackage.get(packageName);
+            App app = new App(packageName, activity == null ? null : launchIntent(activity));
+            resolved.put(packageName, app);
+            apps.put(packageName, app);
+        }
+        return resolved;
+    }
+
+    private static Intent launchIntent(ActivityInfo activity) {
+        Intent launch = new Intent(Intent.ACTION_MAIN);
+        launch.addCategory(Intent.CATEGORY_LAUNCHER);
+        launch.setClassName(activity.packageName, activity.name);
+        launch.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
+        return launch;
+    }
+
+    private synchronized CallbackDispatcher dispatcher() {
+        if (dispatcher == null)
+            dispatcher = new CallbackDispatcher();
+        return dispatcher;
+    }
+
+    private void registerReceiver(Context context) {
+        IntentFilter filter = new IntentFilter();
+        filter.addAction(Intent.ACTION_PACKAGE_ADDED);
+        filter.addAction(Intent.ACTION_PACKAGE_CHANGED);
+        filter.addAction(Intent.ACTION_PACKAGE_REPLACED);
+        filter.addAction(Intent.ACTION_PACKAGE_REMOVED);
+        filter.addDataScheme("package");
+
+        context.registerReceiver(new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context ctx, Intent intent) {
+                Uri data = intent.getData();
+                if (data != null)
+                    invalidate(data.getSchemeSpecificPart());
+            }
+        }, filter);
+    }
+}
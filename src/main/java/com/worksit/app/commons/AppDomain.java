@@ -3,32 +3,20 @@ package com.worksit.app.commons;
 import android.app.Activity;
 import android.content.ActivityNotFoundException;
 import android.content.Intent;
-import android.content.pm.PackageManager;
-import android.content.pm.ResolveInfo;
 import android.net.Uri;
 
-import java.util.List;
-
 /**
  * Created by SKYNET-DEV01 on 25/07/2017.
  */
 
 public class AppDomain {
 
+    /**
+     * Opens the app, or its page in the store. Resolve lists of apps beforehand with
+     * {@link AppAvailability#resolve} so that this is a cache lookup.
+     */
     public void callApp(Activity activity, String packageName) {
-        Intent launchIntent = activity.getPackageManager().getLaunchIntentForPackage(String.format("%s", packageName));
-        if (launchIntent != null) {
-            activity.startActivity(launchIntent);//null pointer check in case package name was not found
-        }
-        else {
-            Uri uri = Uri.parse(String.format("market://details?id=%s", packageName));
-            Intent myAppLinkToMarket = new Intent(Intent.ACTION_VIEW, uri);
-            try {
-                activity.startActivity(myAppLinkToMarket);
-            } catch (ActivityNotFoundException e) {
-                activity.startActivity(new Intent(Intent.ACTION_VIEW, Uri.parse(String.format("http://play.google.com/store/apps/details?id=%s", packageName))));
-            }
-        }
+        AppAvailability.get(activity).launch(activity, packageName);
     }
 
     public void callRateApp(Activity activity) {
@@ -48,19 +36,8 @@ public class AppDomain {
      * @return
      */
     public boolean isLauncherActivity(Activity act) {
-        final PackageManager pm = act.getPackageManager();
-        // package manager is provider of all the application information
-        Intent mainIntent = new Intent(Intent.ACTION_MAIN, null);
-        mainIntent.addCategory(Intent.CATEGORY_LAUNCHER);
-
-        List<ResolveInfo> appList = pm.queryIntentActivities(mainIntent, 0);
-
-        for (ResolveInfo info : appList) {
-            if (act.getApplicationInfo().name.equals(info.activityInfo.name))
-                return true;
-        }
-
-        return false;
+        // índice resolvido uma vez para o nosso pacote, veja LauncherIndex
+        return LauncherIndex.get(act).isLauncher(act.getComponentName());
     }
 
 }
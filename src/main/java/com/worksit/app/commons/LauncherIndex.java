@@ -0,0 +1,222 @@
+package com.worksit.app.commons;
+
+import android.content.BroadcastReceiver;
+import android.content.ComponentName;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.content.pm.ActivityInfo;
+import android.content.pm.PackageManager;
+import android.content.pm.ResolveInfo;
+import android.net.Uri;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Intent categories of the activities of our own package, resolved once.
+ *
+ * The index is built with one {@link PackageManager#queryIntentActivities} per category,
+ * restricted to our package, on a background thread started by {@link #get(Context)}. Lookups
+ * are then hash map reads. Call {@link #get} from Application.onCreate so the index is ready by
+ * the first Activity. Package broadcasts for our package (components enabled / disabled,
+ * updates) rebuild it.
+ *
+ * A lookup made before the index is ready blocks the calling thread until the build ends, a few
+ * package manager queries, usually some milliseconds. Code on the main thread that must not
+ * wait (e.g. a lookup from the same onCreate that called {@link #get}) checks {@link #isReady()}
+ * first.
+ */
+public final class LauncherIndex {
+
+    /** Categories indexed, queried with ACTION_MAIN */
+    private static final String[] CATEGORIES = {
+            Intent.CATEGORY_LAUNCHER,
+            "android.intent.category.LEANBACK_LAUNCHER", // Intent.CATEGORY_LEANBACK_LAUNCHER, API 21
+            Intent.CATEGORY_HOME,
+            Intent.CATEGORY_INFO
+    };
+
+    /**
+     * {@link PackageManager#queryIntentActivities(Intent, int)} without flags.
+     */
+    interface ActivityQuery {
+        List<ResolveInfo> query(Intent intent);
+    }
+
+    private static LauncherIndex instance;
+
+    private final String packageName;
+    private final ActivityQuery query;
+    private FutureTask<Map<String, Set<String>>> index;
+
+    LauncherIndex(String packageName, ActivityQuery query) {
+        this.packageName = packageName;
+        this.query = query;
+    }
+
+    /**
+     * The shared index; its creation starts building it in the background.
+     */
+    public static synchronized LauncherIndex get(Context context) {
+        if (instance == null) {
+            final Context application = context.getApplicationContext();
+            instance = new LauncherIndex(application.getPackageName(), new ActivityQuery() {
+                @Override
+                public List<ResolveInfo> query(Intent intent) {
+                    return application.getPackageManager().queryIntentActivities(intent, 0);
+                }
+            });
+            instance.registerReceiver(application);
+            instance.warmUp();
+        }
+        return instance;
+    }
+
+    /**
+     * Builds the index in the background when it is neither built nor being built.
+     */
+    public void warmUp() {
+        FutureTask<Map<String, Set<String>>> task;
+        synchronized (this) {
+            if (index != null)
+                return;
+            task = index = newTask();
+        }
+
+        Thread thread = new Thread(task, "LauncherIndex");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Whether lookups return without waiting for the build.
+     */
+    public synchronized boolean isReady() {
+        return index != null && index.isDone();
+    }
+
+    /**
+     * Blocks while the index is being built, see {@link #isReady()}.
+     *
+     * @param className activity or activity-alias name
+     */
+    public boolean hasCategory(String className, String category) {
+        Set<String> categories = index().get(className);
+        return categories != null && categories.contains(category);
+    }
+
+    public boolean isLauncher(ComponentName component) {
+        return packageName.equals(component.getPackageName())
+                && hasCategory(component.getClassName(), Intent.CATEGORY_LAUNCHER);
+    }
+
+    /**
+     * Categories of the activity, empty when it has none of the indexed ones. Blocks while the
+     * index is being built, see {@link #isReady()}.
+     */
+    public Set<String> categoriesOf(String className) {
+        Set<String> categories = index().get(className);
+        return categories == null ? Collections.<String>emptySet() : categories;
+    }
+
+    /**
+     * Drops the index; the next lookup or {@link #warmUp()} rebuilds it.
+     */
+    public synchronized void invalidate() {
+        index = null;
+    }
+
+    private Map<String, Set<String>> index() {
+        FutureTask<Map<String, Set<String>>> task;
+        boolean owner = false;
+        synchronized (this) {
+            if (index == null) {
+                index = newTask();
+                owner = true;
+            }
+            task = index;
+        }
+
+        if (owner)
+            task.run();
+        try {
+            return task.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return build();
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException("Could not resolve the activities of " + packageName, e.getCause());
+        }
+    }
+
+    private FutureTask<Map<String, Set<String>>> newTask() {
+        return new FutureTask<>(new Callable<Map<String, Set<String>>>() {
+            @Override
+            public Map<String, Set<String>> call() {
+                return build();
+            }
+        });
+    }
+
+    private Map<String, Set<String>> build() {
+        Map<String, Set<String>> activities = new HashMap<>();
+
+        for (String category : CATEGORIES) {
+            Intent intent = new Intent(Intent.ACTION_MAIN);
+            intent.addCategory(category);
+            intent.setPackage(packageName);
+
+            List<ResolveInfo> resolved = query.query(intent);
+            for (ResolveInfo info : resolved) {
+                ActivityInfo activity = info.activityInfo;
+                add(activities, activity.name, category);
+                if (activity.targetActivity != null)
+                    add(activities, activity.targetActivity, category);
+            }
+        }
+        return activities;
+    }
+
+    private static void add(Map<String, Set<String>> activities, String className, String category) {
+        Set<String> categories = activities.get(className);
+        if (categories == null) {
+            categories = new HashSet<>(4);
+            activities.put(className, categories);
+        }
+        categories.add(category);
+    }
+
+    private void registerReceiver(Context context) {
+        IntentFilter filter = new IntentFilter();
+        filter.addAction(Intent.ACTION_PACKAGE_ADDED);
+        filter.addAction(Intent.ACTION_PACKAGE_CHANGED);
+        filter.addAction(Intent.ACTION_PACKAGE_REPLACED);
+        filter.addAction(Intent.ACTION_PACKAGE_REMOVED);
+        filter.addDataScheme("package");
+
+        context.registerReceiver(new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context ctx, Intent intent) {
+                Uri data = intent.getData();
+                if (data != null && packageName.equals(data.getSchemeSpecificPart())) {
+                    invalidate();
+                    warmUp();
+                }
+            }
+        }, filter);
+    }
+}
@@ -0,0 +1,539 @@
+package com.worksit.app.commons.callbacks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Result of an asynchronous operation, composable without nesting {@link GenericCallback}s.
+ *
+ * Independent operations started together and joined with {@link #all(List)} or
+ * {@link #zip(AsyncResult, AsyncResult, Combiner)} take the time of the slowest one instead of
+ * the sum of all of them.
+ *
+ * Stages run on the thread that completes the previous one (or on the caller when it is
+ * already complete); nothing is re-posted between stages. Use a {@link CallbackDispatcher} in
+ * {@link #to(GenericCallback)} to get the final result on the main thread.
+ *
+ * Cancelling a result cancels the operations it depends on, and a cancelled result never
+ * reaches the callbacks given to {@link #to(GenericCallback)}.
+ */
+public class AsyncResult<T> implements Cancellable {
+
+    /**
+     * Operation written against {@link GenericCallback}, see {@link #start(Operation)}.
+     */
+    public interface Operation<T> {
+        /**
+         * @return handle used to cancel the operation, may be <em>null</em>
+         */
+        Cancellable start(GenericCallback<T> callback);
+    }
+
+    public interface Function<A, B> {
+        B apply(A value) throws Exception;
+    }
+
+    public interface Combiner<A, B, R> {
+        R combine(A first, B second) throws Exception;
+    }
+
+    private static final int PENDING = 0;
+    private static final int SUCCEEDED = 1;
+    private static final int FAILED = 2;
+    private static final int CANCELLED = 3;
+
+    private int state = PENDING;
+    private T value;
+    private Exception error;
+    private List<GenericCallback<? super T>> listeners;
+    private volatile Cancellable upstream;
+
+    public AsyncResult() {
+    }
+
+    //region Adaptadores
+
+    /**
+     * Starts {@code operation} and returns its result; cancelling the result cancels the
+     * handle returned by the operation.
+     */
+    public static <T> AsyncResult<T> start(Operation<T> operation) {
+        AsyncResult<T> result = new AsyncResult<>();
+        Cancellable handle = operation.start(result.asCallback());
+        if (handle != null)
+            result.dependOn(handle);
+        return result;
+    }
+
+    public static <T> AsyncResult<T> success(T value) {
+        AsyncResult<T> result = new AsyncResult<>();
+        result.complete(value);
+        return result;
+    }
+
+    public static <T> AsyncResult<T> failure(Exception error) {
+        AsyncResult<T> result = new AsyncResult<>();
+        result.fail(error);
+        return result;
+    }
+
+    /**
+     * Callback that completes this result, to be handed to {@link GenericCallback} based APIs.
+     */
+    public GenericCallback<T> asCallback() {
+        return new GenericCallback<T>() {
+            @Override
+            public void onSuccess(T data) {
+                complete(data);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                fail(ex);
+            }
+        };
+    }
+
+    /**
+     * Delivers the outcome to {@code callback}, unless the result is cancelled.
+     */
+    public AsyncResult<T> to(final GenericCallback<? super T> callback) {
+        listen(new GenericCallback<T>() {
+            @Override
+            public void onSuccess(T data) {
+                callback.onSuccess(data);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                if (!isCancelled())
+                    callback.onError(ex);
+            }
+        });
+        return this;
+    }
+
+    //endregion
+
+    public boolean complete(T value) {
+        List<GenericCallback<? super T>> pending;
+        synchronized (this) {
+            if (state != PENDING)
+                return false;
+            this.state = SUCCEEDED;
+            this.value = value;
+            pending = takeListeners();
+        }
+        upstream = null;
+
+        if (pending != null) {
+            for (GenericCallback<? super T> listener : pending) {
+                listener.onSuccess(value);
+            }
+        }
+        return true;
+    }
+
+    public boolean fail(Exception error) {
+        return finish(FAILED, error);
+    }
+
+    /**
+     * Cancels the result and the operations it depends on.
+     * @return <em>false</em> when the result was already complete
+     */
+    @Override
+    public boolean cancel() {
+        if (!finish(CANCELLED, new CancellationException()))
+            return false;
+
+        Cancellable handle = upstream;
+        upstream = null;
+        if (handle != null)
+            handle.cancel();
+        return true;
+    }
+
+    public synchronized boolean isDone() {
+        return state != PENDING;
+    }
+
+    public synchronized boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    //region Composição
+
+    public <R> AsyncResult<R> map(final Function<? super T, ? extends R> function) {
+        final AsyncResult<R> out = new AsyncResult<>();
+        out.dependOn(this);
+        listen(new GenericCallback<T>() {
+            @Override
+            public void onSuccess(T data) {
+                R mapped;
+                try {
+                    mapped = function.apply(data);
+                }
+                catch (Exception ex) {
+                    out.fail(ex);
+                    return;
+                }
+                out.complete(mapped);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                out.propagate(AsyncResult.this, ex);
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Chains a dependent operation, started when this result succeeds.
+     */
+    public <R> AsyncResult<R> flatMap(final Function<? super T, AsyncResult<R>> function) {
+        final AsyncResult<R> out = new AsyncResult<>();
+        out.dependOn(this);
+        listen(new GenericCallback<T>() {
+            @Override
+            public void onSuccess(T data) {
+                final AsyncResult<R> next;
+                try {
+                    next = function.apply(data);
+                }
+                catch (Exception ex) {
+                    out.fail(ex);
+                    return;
+                }
+
+                out.dependOn(next);
+                if (out.isCancelled()) {
+                    next.cancel();
+                    return;
+                }
+                next.listen(out.forwarder(next));
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                out.propagate(AsyncResult.this, ex);
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Fails with {@link TimeoutException} and cancels this result when it takes longer than
+     * {@code millis}. Uses a shared daemon timer thread.
+     */
+    public AsyncResult<T> timeout(long millis) {
+        return timeout(millis, Timer.INSTANCE);
+    }
+
+    public AsyncResult<T> timeout(final long millis, ScheduledExecutorService scheduler) {
+        final AsyncResult<T> out = new AsyncResult<>();
+        out.dependOn(this);
+
+        // quem vence decide: o cancelamento da origem não pode chegar antes do TimeoutException
+        final AtomicBoolean settled = new AtomicBoolean();
+        final ScheduledFuture<?> timer = scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (!settled.compareAndSet(false, true))
+                    return;
+                AsyncResult.this.cancel();
+                out.fail(new TimeoutException("Timed out after " + millis + " ms"));
+            }
+        }, millis, TimeUnit.MILLISECONDS);
+
+        listen(new GenericCallback<T>() {
+            @Override
+            public void onSuccess(T data) {
+                timer.cancel(false);
+                if (settled.compareAndSet(false, true))
+                    out.complete(data);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                timer.cancel(false);
+                if (settled.compareAndSet(false, true))
+                    out.propagate(AsyncResult.this, ex);
+            }
+        });
+        return out;
+    }
+
+    public static <A, B, R> AsyncResult<R> zip(final AsyncResult<A> first, final AsyncResult<B> second, final Combiner<? super A, ? super B, ? extends R> combiner) {
+        final AsyncResult<R> out = new AsyncResult<>();
+        out.dependOn(new Cancellable() {
+            @Override
+            public boolean cancel() {
+                return first.cancel() | second.cancel();
+            }
+        });
+
+        final Object[] values = new Object[2];
+        final AtomicInteger remaining = new AtomicInteger(2);
+        final AtomicBoolean failed = new AtomicBoolean();
+        GenericCallback<Object> join = new GenericCallback<Object>() {
+            @Override
+            public void onSuccess(Object data) {
+                if (remaining.decrementAndGet() > 0)
+                    return;
+
+                R combined;
+                try {
+                    @SuppressWarnings("unchecked")
+                    A a = (A) values[0];
+                    @SuppressWarnings("unchecked")
+                    B b = (B) values[1];
+                    combined = combiner.combine(a, b);
+                }
+                catch (Exception ex) {
+                    out.fail(ex);
+                    return;
+                }
+                out.complete(combined);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                if (!failed.compareAndSet(false, true))
+                    return;
+                first.cancel();
+                second.cancel();
+                out.fail(ex);
+            }
+        };
+        first.listen(slot(values, 0, join));
+        second.listen(slot(values, 1, join));
+        return out;
+    }
+
+    /**
+     * Succeeds with every value, in the order of {@code results}, or fails with the first
+     * error, cancelling the rest.
+     */
+    public static <T> AsyncResult<List<T>> all(final List<? extends AsyncResult<? extends T>> results) {
+        final AsyncResult<List<T>> out = new AsyncResult<>();
+        out.dependOn(cancelAll(results));
+        if (results.isEmpty()) {
+            out.complete(new ArrayList<T>(0));
+            return out;
+        }
+
+        final Object[] values = new Object[results.size()];
+        final AtomicInteger remaining = new AtomicInteger(values.length);
+        final AtomicBoolean failed = new AtomicBoolean();
+        GenericCallback<Object> join = new GenericCallback<Object>() {
+            @Override
+            public void onSuccess(Object data) {
+                if (remaining.decrementAndGet() > 0)
+                    return;
+
+                @SuppressWarnings("unchecked")
+                List<T> list = (List<T>) Arrays.asList(values);
+                out.complete(list);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                if (!failed.compareAndSet(false, true))
+                    return;
+                cancelAll(results).cancel();
+                out.fail(ex);
+            }
+        };
+        for (int i = 0; i < values.length; i++) {
+            results.get(i).listen(slot(values, i, join));
+        }
+        return out;
+    }
+
+    @SafeVarargs
+    public static <T> AsyncResult<List<T>> all(AsyncResult<? extends T>... results) {
+        // cópia elemento a elemento: o array genérico não sai deste método
+        List<AsyncResult<? extends T>> list = new ArrayList<>(results.length);
+        for (AsyncResult<? extends T> result : results) {
+            list.add(result);
+        }
+        return all(list);
+    }
+
+    /**
+     * Succeeds with the first value, cancelling the rest; fails with the last error when all of
+     * them fail.
+     */
+    public static <T> AsyncResult<T> any(final List<? extends AsyncResult<? extends T>> results) {
+        final AsyncResult<T> out = new AsyncResult<>();
+        out.dependOn(cancelAll(results));
+        if (results.isEmpty()) {
+            out.fail(new IllegalArgumentException("No results"));
+            return out;
+        }
+
+        final AtomicInteger remaining = new AtomicInteger(results.size());
+        final AtomicBoolean won = new AtomicBoolean();
+        GenericCallback<T> first = new GenericCallback<T>() {
+            @Override
+            public void onSuccess(T data) {
+                if (!won.compareAndSet(false, true))
+                    return;
+                // os perdedores já estão cancelados quando o resultado é entregue
+                cancelAll(results).cancel();
+                out.complete(data);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                if (remaining.decrementAndGet() == 0)
+                    out.fail(ex);
+            }
+        };
+        for (AsyncResult<? extends T> result : results) {
+            result.listen(first);
+        }
+        return out;
+    }
+
+    @SafeVarargs
+    public static <T> AsyncResult<T> any(AsyncResult<? extends T>... results) {
+        List<AsyncResult<? extends T>> list = new ArrayList<>(results.length);
+        for (AsyncResult<? extends T> result : results) {
+            list.add(result);
+        }
+        return any(list);
+    }
+
+    //endregion
+
+    /**
+     * Registers a listener that also sees cancellation, as a {@link CancellationException}.
+     */
+    void listen(GenericCallback<? super T> listener) {
+        int current;
+        synchronized (this) {
+            current = state;
+            if (current == PENDING) {
+                if (listeners == null)
+                    listeners = new ArrayList<>(2);
+                listeners.add(listener);
+                return;
+            }
+        }
+
+        if (current == SUCCEEDED)
+            listener.onSuccess(value);
+        else
+            listener.onError(error);
+    }
+
+    private boolean finish(int finalState, Exception error) {
+        List<GenericCallback<? super T>> pending;
+        synchronized (this) {
+            if (state != PENDING)
+                return false;
+            this.state = finalState;
+            this.error = error;
+            pending = takeListeners();
+        }
+        if (finalState != CANCELLED)
+            upstream = null;
+
+        if (pending != null) {
+            for (GenericCallback<? super T> listener : pending) {
+                listener.onError(error);
+            }
+        }
+        return true;
+    }
+
+    private List<GenericCallback<? super T>> takeListeners() {
+        List<GenericCallback<? super T>> pending = listeners;
+        listeners = null;
+        return pending;
+    }
+
+    private void dependOn(Cancellable handle) {
+        upstream = handle;
+    }
+
+    /**
+     * Cancelled sources cancel this result, other errors fail it.
+     */
+    private void propagate(AsyncResult<?> source, Exception ex) {
+        if (source.isCancelled())
+            cancel();
+        else
+            fail(ex);
+    }
+
+    private GenericCallback<T> forwarder(final AsyncResult<T> source) {
+        return new GenericCallback<T>() {
+            @Override
+            public void onSuccess(T data) {
+                complete(data);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                propagate(source, ex);
+            }
+        };
+    }
+
+    private static <V> GenericCallback<V> slot(final Object[] values, final int index, final GenericCallback<Object> join) {
+        return new GenericCallback<V>() {
+            @Override
+            public void onSuccess(V data) {
+                values[index] = data;
+                join.onSuccess(data);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                join.onError(ex);
+            }
+        };
+    }
+
+    private static Cancellable cancelAll(final List<? extends AsyncResult<?>> results) {
+        return new Cancellable() {
+            @Override
+            public boolean cancel() {
+                boolean any = false;
+                for (AsyncResult<?> result : results) {
+                    any |= result.cancel();
+                }
+                return any;
+            }
+        };
+    }
+
+    private static final class Timer {
+        static final ScheduledExecutorService INSTANCE = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "AsyncResult-timer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+}
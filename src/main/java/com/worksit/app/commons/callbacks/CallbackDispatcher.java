@@ -0,0 +1,236 @@
+package com.worksit.app.commons.callbacks;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Delivers {@link GenericCallback} results on the main thread in batches.
+ *
+ * Results arriving from background threads are queued and delivered together by a single
+ * main-thread message at the next frame boundary, instead of one message (and one UI update)
+ * per result. Callbacks wrapped with {@link #wrapLatest(Object, GenericCallback)} share a key
+ * and only the newest result of the key in a batch is delivered; the older ones are dropped.
+ *
+ * Deliveries keep their arrival order inside a batch (a replaced key moves to the end).
+ */
+public final class CallbackDispatcher {
+
+    public interface Poster {
+        void postDelayed(Runnable runnable, long delayMillis);
+    }
+
+    public interface Clock {
+        long uptimeMillis();
+    }
+
+    public static final long FRAME_MILLIS = 16;
+
+    private final Poster poster;
+    private final Clock clock;
+    private final long frameMillis;
+
+    private final Object lock = new Object();
+    private LinkedHashMap<Object, Runnable> pending = new LinkedHashMap<>();
+    private LinkedHashMap<Object, Runnable> draining = new LinkedHashMap<>();
+    private boolean scheduled;
+
+    private long drains;
+    private long delivered;
+    private long dropped;
+    private int maxBatch;
+
+    private final Runnable drain = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    /**
+     * Dispatcher for the main looper, one batch per frame.
+     */
+    public CallbackDispatcher() {
+        this(new Poster() {
+            private final Handler handler = new Handler(Looper.getMainLooper());
+
+            @Override
+            public void postDelayed(Runnable runnable, long delayMillis) {
+                handler.postDelayed(runnable, delayMillis);
+            }
+        }, new Clock() {
+            @Override
+            public long uptimeMillis() {
+                return SystemClock.uptimeMillis();
+            }
+        }, FRAME_MILLIS);
+    }
+
+    /**
+     * @param poster posts to the thread the callbacks run on
+     * @param frameMillis batch window; 0 drains on the next message
+     */
+    public CallbackDispatcher(Poster poster, Clock clock, long frameMillis) {
+        if (frameMillis < 0)
+            throw new IllegalArgumentException("Invalid frame length: " + frameMillis);
+
+        this.poster = poster;
+        this.clock = clock;
+        this.frameMillis = frameMillis;
+    }
+
+    /**
+     * Every result of the returned callback is delivered to {@code callback}, batched.
+     */
+    public <T> GenericCallback<T> wrap(final GenericCallback<T> callback) {
+        return new GenericCallback<T>() {
+            @Override
+            public void onSuccess(final T data) {
+                enqueue(null, new Runnable() {
+                    @Override
+                    public void run() {
+                        callback.onSuccess(data);
+                    }
+                });
+            }
+
+            @Override
+            public void onError(final Exception ex) {
+                enqueue(null, new Runnable() {
+                    @Override
+                    public void run() {
+                        callback.onError(ex);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Latest wins: a result waiting for the drain is dropped when another result with the same
+     * {@code key} arrives, whichever callback it was wrapped with.
+     */
+    public <T> GenericCallback<T> wrapLatest(final Object key, final GenericCallback<T> callback) {
+        if (key == null)
+            throw new IllegalArgumentException("Key must not be null");
+
+        return new GenericCallback<T>() {
+            @Override
+            public void onSuccess(final T data) {
+                enqueue(key, new Runnable() {
+                    @Override
+                    public void run() {
+                        callback.onSuccess(data);
+                    }
+                });
+            }
+
+            @Override
+            public void onError(final Exception ex) {
+                enqueue(key, new Runnable() {
+                    @Override
+                    public void run() {
+                        callback.onError(ex);
+                    }
+                });
+            }
+        };
+    }
+
+    //region Métricas
+
+    public long getDrainCount() {
+        synchronized (lock) {
+            return drains;
+        }
+    }
+
+    public long getDeliveredCount() {
+        synchronized (lock) {
+            return delivered;
+        }
+    }
+
+    /**
+     * Results superseded by a newer one of the same key.
+     */
+    public long getDroppedCount() {
+        synchronized (lock) {
+            return dropped;
+        }
+    }
+
+    public int getMaxBatchSize() {
+        synchronized (lock) {
+            return maxBatch;
+        }
+    }
+
+    public double getAverageBatchSize() {
+        synchronized (lock) {
+            return drains == 0 ? 0 : (double) delivered / drains;
+        }
+    }
+
+    //endregion
+
+    private void enqueue(Object key, Runnable delivery) {
+        boolean schedule;
+        synchronized (lock) {
+            if (key == null) {
+                pending.put(delivery, delivery);
+            }
+            else if (pending.remove(key) != null) {
+                dropped++;
+                pending.put(key, delivery);
+            }
+            else {
+                pending.put(key, delivery);
+            }
+
+            schedule = !scheduled;
+            scheduled = true;
+        }
+
+        if (schedule)
+            poster.postDelayed(drain, delayToNextFrame());
+    }
+
+    private long delayToNextFrame() {
+        if (frameMillis == 0)
+            return 0;
+        return frameMillis - clock.uptimeMillis() % frameMillis;
+    }
+
+    private void drain() {
+        LinkedHashMap<Object, Runnable> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = draining;
+            draining = batch;
+            scheduled = false;
+
+            if (batch.isEmpty())
+                return;
+            drains++;
+            delivered += batch.size();
+            maxBatch = Math.max(maxBatch, batch.size());
+        }
+
+        // só o drain usa o mapa trocado, que precisa voltar vazio para a próxima troca
+        try {
+            for (Runnable delivery : batch.values()) {
+                delivery.run();
+            }
+        }
+        finally {
+            batch.clear();
+        }
+    }
+}
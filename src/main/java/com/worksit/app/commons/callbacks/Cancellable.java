@@ -0,0 +1,16 @@
+package com.worksit.app.commons.callbacks;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Handle of an asynchronous operation that can be cancelled.
+ */
+public interface Cancellable {
+
+    /**
+     * @return <em>false</em> when there was nothing left to cancel
+     */
+    boolean cancel();
+}
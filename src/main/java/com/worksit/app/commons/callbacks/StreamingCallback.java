@@ -0,0 +1,28 @@
+package com.worksit.app.commons.callbacks;
+
+import java.util.List;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Incremental counterpart of {@link GenericCallback} for list responses: items are delivered in
+ * batches while the response is still being read, instead of a single fully materialized list.
+ */
+public interface StreamingCallback<T> {
+
+    /**
+     * Next decoded items, in response order. The list belongs to the callee.
+     */
+    void onBatch(List<T> items);
+
+    /**
+     * Called once after the last batch.
+     * @param count total of items delivered
+     */
+    void onComplete(int count);
+
+    void onError(Exception ex);
+
+}
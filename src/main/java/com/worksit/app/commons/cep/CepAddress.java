@@ -0,0 +1,61 @@
+package com.worksit.app.commons.cep;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Address of a CEP found in a {@link CepIndex}.
+ */
+public final class CepAddress {
+
+    private final int cep;
+    private final String street;
+    private final String district;
+    private final String city;
+    private final String uf;
+
+    CepAddress(int cep, String street, String district, String city, String uf) {
+        this.cep = cep;
+        this.street = street;
+        this.district = district;
+        this.city = city;
+        this.uf = uf;
+    }
+
+    public int getCep() {
+        return cep;
+    }
+
+    /**
+     * CEP formatted as "#####-###".
+     */
+    public String getFormattedCep() {
+        String digits = CepIndex.digitsOf(cep);
+        return digits.substring(0, 5) + '-' + digits.substring(5);
+    }
+
+    /**
+     * Empty for CEPs that cover a whole city.
+     */
+    public String getStreet() {
+        return street;
+    }
+
+    public String getDistrict() {
+        return district;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getUf() {
+        return uf;
+    }
+
+    @Override
+    public String toString() {
+        return getFormattedCep() + " " + street + ", " + district + ", " + city + "/" + uf;
+    }
+}
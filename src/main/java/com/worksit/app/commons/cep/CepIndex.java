@@ -0,0 +1,199 @@
+package com.worksit.app.commons.cep;
+
+import android.content.Context;
+
+import com.worksit.app.commons.resources.RawResource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Offline CEP lookup over an index written by the {@code CepIndexBuilder} build tool
+ * (unit test sources, Gradle task {@code buildCepIndex}).
+ *
+ * The index is used in place (memory-mapped when the raw resource is stored uncompressed, so
+ * keep the extension in {@code aaptOptions.noCompress}): a lookup binary searches the block
+ * index and decodes at most one block of varint records, then the strings of the match.
+ *
+ * Thread safe.
+ *
+ * <pre>
+ * Layout (big endian):
+ *   header   magic "CEPX", version, records, block size, blocks, strings,
+ *            string offsets offset, string data offset, block index offset, blocks offset
+ *   strings  int offset[strings + 1] into the UTF-8 data
+ *   index    per block: int first CEP, int offset of the block
+ *   blocks   per record: varint CEP delta, varint street, district, city and UF string ids
+ * </pre>
+ */
+public final class CepIndex {
+
+    static final int MAGIC = 0x43455058;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 40;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final ByteBuffer data;
+    private final int records;
+    private final int blocks;
+    private final int strings;
+    private final int stringOffsets;
+    private final int stringData;
+    private final int blockIndex;
+    private final int blocksStart;
+
+    /**
+     * @throws IOException when the buffer is not a CEP index
+     */
+    public CepIndex(ByteBuffer data) throws IOException {
+        this.data = data.slice();
+        if (this.data.limit() < HEADER_SIZE || this.data.getInt(0) != MAGIC)
+            throw new IOException("Not a CEP index");
+        if (this.data.getInt(4) != VERSION)
+            throw new IOException("Unsupported CEP index version " + this.data.getInt(4));
+
+        records = this.data.getInt(8);
+        blocks = this.data.getInt(16);
+        strings = this.data.getInt(20);
+        stringOffsets = this.data.getInt(24);
+        stringData = this.data.getInt(28);
+        blockIndex = this.data.getInt(32);
+        blocksStart = this.data.getInt(36);
+    }
+
+    /**
+     * Opens the index bundled as a raw resource.
+     */
+    public static CepIndex open(Context context, int resource) throws IOException {
+        RawResource raw = RawResource.open(context.getResources(), resource);
+        try {
+            return new CepIndex(raw.bytes());
+        }
+        finally {
+            raw.close();
+        }
+    }
+
+    public int size() {
+        return records;
+    }
+
+    /**
+     * @param cep the 8 digits, with or without the mask
+     * @return <em>null</em> when the text is not a complete CEP or the CEP is unknown
+     */
+    public CepAddress find(CharSequence cep) {
+        int value = parse(cep);
+        return value < 0 ? null : find(value);
+    }
+
+    public CepAddress find(int cep) {
+        if (blocks == 0 || cep < 0)
+            return null;
+
+        // último bloco cujo primeiro CEP é <= cep
+        int lo = 0;
+        int hi = blocks - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (data.getInt(blockIndex + mid * 8) <= cep)
+                lo = mid;
+            else
+                hi = mid - 1;
+        }
+
+        int current = data.getInt(blockIndex + lo * 8);
+        if (current > cep)
+            return null;
+
+        int end = lo + 1 < blocks ? blocksStart + data.getInt(blockIndex + (lo + 1) * 8 + 4) : data.limit();
+        int[] pos = {blocksStart + data.getInt(blockIndex + lo * 8 + 4)};
+        boolean first = true;
+        while (pos[0] < end) {
+            int delta = readVarint(pos);
+            current = first ? current : current + delta;
+            first = false;
+            if (current > cep)
+                return null;
+
+            if (current == cep) {
+                return new CepAddress(cep, string(readVarint(pos)), string(readVarint(pos)),
+                        string(readVarint(pos)), string(readVarint(pos)));
+            }
+            for (int k = 0; k < 4; k++) {
+                readVarint(pos);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the CEP as a number, or -1 when the text does not hold exactly 8 digits
+     */
+    public static int parse(CharSequence text) {
+        if (text == null)
+            return -1;
+
+        int value = 0;
+        int digits = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 8)
+                    return -1;
+                value = value * 10 + (c - '0');
+            }
+            else if (c != '-' && c != '.' && c != ' ') {
+                return -1;
+            }
+        }
+        return digits == 8 ? value : -1;
+    }
+
+    static String digitsOf(int cep) {
+        char[] digits = new char[8];
+        for (int i = 7; i >= 0; i--) {
+            digits[i] = (char) ('0' + cep % 10);
+            cep /= 10;
+        }
+        return new String(digits);
+    }
+
+    private String string(int id) {
+        if (id < 0 || id >= strings)
+            throw new IllegalStateException("Corrupt CEP index: string " + id);
+
+        int start = data.getInt(stringOffsets + id * 4);
+        int end = data.getInt(stringOffsets + id * 4 + 4);
+        int length = end - start;
+        if (length == 0)
+            return "";
+
+        byte[] bytes = new byte[length];
+        ByteBuffer view = data.duplicate();
+        view.position(stringData + start);
+        view.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private int readVarint(int[] pos) {
+        int p = pos[0];
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data.get(p++);
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        }
+        while (b < 0);
+        pos[0] = p;
+        return value;
+    }
+}
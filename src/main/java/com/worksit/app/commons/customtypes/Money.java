@@ -1,11 +1,17 @@
 package com.worksit.app.commons.customtypes;
 
+import com.worksit.app.commons.metrics.Counter;
+import com.worksit.app.commons.metrics.Metrics;
+
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Currency;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static java.math.BigDecimal.ZERO;
 
@@ -41,6 +47,100 @@ public class Money {
 
     //endregion
 
+    //region Metadados de moeda
+
+    /**
+     * Dados de uma moeda calculados uma única vez: casas decimais, fator de escala e símbolo.
+     *
+     * Guarda também as instâncias canônicas de {@link Money#ofMinorUnits(long, Currency, RoundingMode)}
+     * da moeda, criadas sob demanda para cada padrão de arredondamento.
+     */
+    public static final class CurrencyInfo {
+
+        private static final ConcurrentHashMap<Currency, CurrencyInfo> INFOS = new ConcurrentHashMap<>();
+
+        /** Último consultado: quase sempre a moeda padrão */
+        private static volatile CurrencyInfo last;
+
+        private final Currency currency;
+        private final int fractionDigits;
+        private final long scaleFactor;
+        private final BigDecimal minorUnit;
+        private final String symbol;
+        private final AtomicReferenceArray<AtomicReferenceArray<Money>> cached =
+                new AtomicReferenceArray<>(RoundingMode.values().length);
+
+        private CurrencyInfo(Currency currency) {
+            this.currency = currency;
+            this.fractionDigits = currency.getDefaultFractionDigits();
+            long factor = 1;
+            for (int i = 0; i < fractionDigits; i++) {
+                factor *= 10;
+            }
+            this.scaleFactor = factor;
+            this.minorUnit = BigDecimal.ONE.movePointLeft(Math.max(0, fractionDigits));
+            this.symbol = currency.getSymbol();
+        }
+
+        public static CurrencyInfo of(Currency currency) {
+            CurrencyInfo info = last;
+            if (info != null && info.currency == currency)
+                return info;
+
+            info = INFOS.get(currency);
+            if (info == null) {
+                CurrencyInfo created = new CurrencyInfo(currency);
+                info = INFOS.putIfAbsent(currency, created);
+                if (info == null)
+                    info = created;
+            }
+            last = info;
+            return info;
+        }
+
+        public Currency getCurrency() { return currency; }
+
+        /** {@link Currency#getDefaultFractionDigits()} */
+        public int getFractionDigits() { return fractionDigits; }
+
+        /** Unidades menores (centavos) em uma unidade: 10^casas decimais */
+        public long getScaleFactor() { return scaleFactor; }
+
+        /** Menor unidade da moeda, p. ex. 0.01 */
+        public BigDecimal getMinorUnit() { return minorUnit; }
+
+        /** {@link Currency#getSymbol()} */
+        public String getSymbol() { return symbol; }
+
+        /**
+         * Instância canônica para o montante, ou <em>null</em> quando está fora da faixa em cache.
+         */
+        private Money cached(long minorUnits, RoundingMode roundingMode) {
+            if (minorUnits < cacheMin || minorUnits > cacheMax)
+                return null;
+
+            AtomicReferenceArray<Money> values = cached.get(roundingMode.ordinal());
+            if (values == null) {
+                cached.compareAndSet(roundingMode.ordinal(), null, new AtomicReferenceArray<Money>(cacheMax - cacheMin + 1));
+                values = cached.get(roundingMode.ordinal());
+            }
+
+            int slot = (int) (minorUnits - cacheMin);
+            Money money = values.get(slot);
+            if (money != null) {
+                CACHE_HITS.inc();
+            }
+            else {
+                // instâncias iguais em caso de corrida: qualquer uma serve, fica a primeira
+                values.compareAndSet(slot, null, new Money(BigDecimal.valueOf(minorUnits, fractionDigits), this, roundingMode));
+                money = values.get(slot);
+            }
+            return money;
+        }
+    }
+
+    //endregion
+
     //region "Private variables"
 
     /**
@@ -58,11 +158,36 @@ public class Money {
      */
     private static RoundingMode DEFAULT_ROUNDING_MODE;
 
+    /**
+     * Faixa padrão, em unidades menores, das instâncias canônicas de {@link #ofMinorUnits(long)}:
+     * de -10.00 a 100.00 em reais.
+     */
+    public static final int DEFAULT_CACHE_MIN = -1000;
+    public static final int DEFAULT_CACHE_MAX = 10000;
+
+    /**
+     * Maior faixa aceita por {@link #init(Currency, RoundingMode, int, int)}: cada padrão de
+     * arredondamento usado reserva um array desse tamanho.
+     */
+    public static final int MAX_CACHE_SIZE = 100000;
+
+    private static int cacheMin = DEFAULT_CACHE_MIN;
+    private static int cacheMax = DEFAULT_CACHE_MAX;
+
+    /** Instâncias criadas e instâncias em cache reaproveitadas */
+    private static final Counter ALLOCATIONS = Metrics.counter("money.allocations");
+    private static final Counter CACHE_HITS = Metrics.counter("money.cache.hits");
+
     /**
      * Moeda
      */
     private Currency fCurrency;
 
+    /**
+     * Metadados da moeda
+     */
+    private transient CurrencyInfo fInfo;
+
     /**
      * Arredonamento
      */
@@ -99,6 +224,90 @@ public class Money {
         initialized = true;
     }
 
+    /**
+     * Método de inicialização, com a faixa de montantes compartilhados por {@link #ofMinorUnits(long)}.
+     *
+     * @param cacheMin menor montante em cache, em unidades menores (centavos); deve ser &lt;= 0
+     * @param cacheMax maior montante em cache, em unidades menores; deve ser &gt;= 0
+     * @exception IllegalArgumentException faixa inválida ou com mais de {@link #MAX_CACHE_SIZE} montantes
+     * @exception MoneyException Ocorre quando a classe já foi inicializada.
+     */
+    public static void init(Currency currency, RoundingMode roundingMode, int cacheMin, int cacheMax) throws MoneyException {
+        if (cacheMin > 0 || cacheMax < 0 || (long) cacheMax - cacheMin + 1 > MAX_CACHE_SIZE)
+            throw new IllegalArgumentException("Invalid cache range: " + cacheMin + ".." + cacheMax);
+        if (initialized)
+            throw new MoneyException("Money parameters have been initialized!");
+
+        Money.cacheMin = cacheMin;
+        Money.cacheMax = cacheMax;
+        init(currency, roundingMode);
+    }
+
+    //region Fábricas
+
+    /**
+     * Montante em unidades menores (centavos) na moeda e arredondamento padrão.
+     *
+     * Zero e os montantes da faixa configurada em {@link #init(Currency, RoundingMode, int, int)}
+     * retornam sempre a mesma instância; fora dela é criada uma nova.
+     * @return <tt>ofMinorUnits(234)</tt> é R$ 2.34, enquanto <tt>valueOf(234)</tt> é R$ 234.00
+     */
+    public static Money ofMinorUnits(long minorUnits) throws MoneyException {
+        checkInitialized();
+        return ofMinorUnits(minorUnits, DEFAULT_CURRENCY, DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * Montante em unidades menores da moeda; veja {@link #ofMinorUnits(long)}.
+     */
+    public static Money ofMinorUnits(long minorUnits, Currency currency, RoundingMode roundingMode) throws MoneyException {
+        checkInitialized();
+        CurrencyInfo info = CurrencyInfo.of(currency);
+        Money money = info.cached(minorUnits, roundingMode);
+        return money != null ? money : new Money(BigDecimal.valueOf(minorUnits, info.fractionDigits), info, roundingMode);
+    }
+
+    /**
+     * Equivale a <tt>new Money(value)</tt>, compartilhando as instâncias em cache.
+     */
+    public static Money valueOf(BigDecimal value) throws MoneyException {
+        checkInitialized();
+        return valueOf(value, DEFAULT_CURRENCY, DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * Equivale a <tt>new Money(value, currency, roundingMode)</tt>, compartilhando as instâncias
+     * em cache.
+     */
+    public static Money valueOf(BigDecimal value, Currency currency, RoundingMode roundingMode) throws MoneyException {
+        checkInitialized();
+        return canonical(value, CurrencyInfo.of(currency), roundingMode);
+    }
+
+    /**
+     * Equivale a <tt>new Money(value)</tt>, compartilhando as instâncias em cache.
+     */
+    public static Money valueOf(double value) throws MoneyException {
+        checkInitialized();
+        return valueOf(BigDecimal.valueOf(value), DEFAULT_CURRENCY, DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * Montante arredondado às casas decimais da moeda, em cache quando estiver na faixa.
+     */
+    private static Money canonical(BigDecimal value, CurrencyInfo info, RoundingMode roundingMode) {
+        BigDecimal amount = value.setScale(info.fractionDigits, roundingMode);
+        BigInteger minorUnits = amount.unscaledValue();
+        if (minorUnits.bitLength() < 32) {
+            Money money = info.cached(minorUnits.intValue(), roundingMode);
+            if (money != null)
+                return money;
+        }
+        return new Money(amount, info, roundingMode);
+    }
+
+    //endregion
+
     //region Construtores
 
     public Money(BigDecimal value) throws MoneyException {
@@ -118,7 +327,7 @@ public class Money {
     }
 
     public Money(BigDecimal value, Currency currency, RoundingMode roundingMode) throws MoneyException {
-        this(value, currency.getDefaultFractionDigits(),currency, roundingMode);
+        this(value, CurrencyInfo.of(currency).fractionDigits, currency, roundingMode);
     }
 
     public Money(BigDecimal value, int scale, Currency currency, RoundingMode roundingMode) throws MoneyException {
@@ -150,6 +359,18 @@ public class Money {
         build(currency, roundingMode, bd, scale);
     }
 
+    /**
+     * Montante já arredondado às casas decimais da moeda, sem validações.
+     */
+    private Money(BigDecimal amount, CurrencyInfo info, RoundingMode roundingMode) {
+        ALLOCATIONS.inc();
+        fCurrency = info.currency;
+        fInfo = info;
+        fRoundingMode = roundingMode;
+        fAmount = amount;
+        scale = amount.scale();
+    }
+
     //endregion
 
     /**
@@ -170,14 +391,19 @@ public class Money {
      * @return "R$ 2.34"
      */
     public String toString(){
-        return fCurrency.getSymbol() + " " + fAmount.toPlainString();
+        return fInfo.symbol + " " + fAmount.toPlainString();
     }
 
     /**
      * Retorna o símbolo da moeda
      * @return
      */
-    public String getSymbol() {return fCurrency.getSymbol(); }
+    public String getSymbol() {return fInfo.symbol; }
+
+    /**
+     * Metadados da moeda
+     */
+    public CurrencyInfo getCurrencyInfo() { return fInfo; }
 
 
     /**
@@ -222,14 +448,23 @@ public class Money {
         return fAmount.compareTo(ZERO) ==  0;
     }
 
-    /** Retornar o valor absoluto do montante. */
+    /**
+     * Retornar o valor absoluto do montante, na escala da moeda como {@link #negate()}; o próprio
+     * objeto quando não é negativo e já está nessa escala.
+     */
     public Money abs(){
-        return isPositive() ? this : times(-1);
+        if (isNegative())
+            return negate();
+        if (scale == fInfo.fractionDigits)
+            return this;
+        return canonical(fAmount, fInfo, fRoundingMode);
     }
 
-    /** Retorna o montante * (-1). */
+    /** Retorna o montante * (-1); zero na escala da moeda retorna o próprio objeto. */
     public Money negate(){
-        return times(-1);
+        if (fAmount.signum() == 0 && scale == fInfo.fractionDigits)
+            return this;
+        return canonical(fAmount.negate(), fInfo, fRoundingMode);
     }
 
     //region Operações sobre o montante
@@ -258,9 +493,9 @@ public class Money {
      * Multiplica o montante <tt>Money</tt> por um inteiro.
      */
     public Money times(int aFactor){
-        BigDecimal factor = new BigDecimal(aFactor);
+        BigDecimal factor = BigDecimal.valueOf(aFactor);
         BigDecimal newAmount = fAmount.multiply(factor);
-        return new Money(newAmount, fCurrency, fRoundingMode);
+        return canonical(newAmount, fInfo, fRoundingMode);
     }
 
     /**
@@ -268,8 +503,7 @@ public class Money {
      */
     public Money times(double aFactor){
         BigDecimal newAmount = fAmount.multiply(asBigDecimal(aFactor));
-        newAmount = newAmount.setScale(fCurrency.getDefaultFractionDigits(), fRoundingMode);
-        return  new Money(newAmount, fCurrency, fRoundingMode);
+        return canonical(newAmount, fInfo, fRoundingMode);
     }
 
     /**
@@ -381,12 +615,14 @@ public class Money {
 
     private final void build(Currency currency, RoundingMode roundingMode, BigDecimal value, int scale) throws MoneyException {
         checkInitialized();
+        ALLOCATIONS.inc();
         fCurrency = currency;
+        fInfo = CurrencyInfo.of(currency);
         fRoundingMode = roundingMode;
 
         if (scale == -1) {
-            fAmount = value.setScale(fCurrency.getDefaultFractionDigits(), fRoundingMode);
-            this.scale = fCurrency.getDefaultFractionDigits();
+            fAmount = value.setScale(fInfo.fractionDigits, fRoundingMode);
+            this.scale = fInfo.fractionDigits;
         }
         else if (value.scale() != scale) {
             fAmount = value.setScale(scale, roundingMode);
@@ -398,7 +634,7 @@ public class Money {
         }
     }
 
-    private void checkInitialized() throws MoneyException{
+    private static void checkInitialized() throws MoneyException{
         if (!initialized)
             throw new MoneyException("Money parameters need to be initialised.");
     }
@@ -438,6 +674,7 @@ public class Money {
     private void readObject(ObjectInputStream aInputStream) throws ClassNotFoundException, IOException {
         aInputStream.defaultReadObject();
         fAmount = new BigDecimal( fAmount.toPlainString() );
+        fInfo = CurrencyInfo.of(fCurrency);
     }
 
     private void writeObject(ObjectOutputStream aOutputStream) throws IOException {
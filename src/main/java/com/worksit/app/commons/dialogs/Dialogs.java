@@ -5,6 +5,8 @@ import android.content.Context;
 import android.content.DialogInterface;
 import android.support.v7.app.AlertDialog;
 
+import com.worksit.app.commons.metrics.Metrics;
+
 /**
  * Created by SKYNET-DEV01 on 27/02/2017.
  */
@@ -56,6 +58,11 @@ public class Dialogs {
 
     }
 
+    /**
+     * @deprecated shows the dialog even for quick operations and keeps it (and the Context) in a
+     * static field; use {@link ProgressController#of(android.app.Activity)}
+     */
+    @Deprecated
     public static void showProgressDialog(Context context, String message) {
         if (progressDialog == null) {
             progressDialog = new ProgressDialog(context);
@@ -70,6 +77,10 @@ public class Dialogs {
         }
     }
 
+    /**
+     * @deprecated use {@link ProgressController#end()}
+     */
+    @Deprecated
     public static void closeProgressDialog() {
         try {
             if (progressDialog != null) {
@@ -79,6 +90,7 @@ public class Dialogs {
         }
         catch (Exception e) {
             //para evitar abortar. identificado com o uso do Firebase
+            Metrics.counter("dialogs.errors").inc();
         }
     }
 }
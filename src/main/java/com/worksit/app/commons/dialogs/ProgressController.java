@@ -0,0 +1,310 @@
+package com.worksit.app.commons.dialogs;
+
+import android.app.Activity;
+import android.app.Application;
+import android.app.ProgressDialog;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Progress indicator of an Activity, shown only for operations that take a while.
+ *
+ * {@link #begin(String)} / {@link #end()} are reference counted. The dialog appears only when
+ * some operation is still running after the grace delay, so quick ones never inflate a window,
+ * and once visible it stays at least the minimum time so it does not flicker. The state lives
+ * in the controller of each Activity, released when the Activity is destroyed.
+ *
+ * Must be used on the main thread.
+ */
+public final class ProgressController {
+
+    public static final long DEFAULT_GRACE_MILLIS = 300;
+    public static final long DEFAULT_MIN_SHOW_MILLIS = 500;
+
+    /**
+     * What is shown; a {@link ProgressDialog} by default.
+     */
+    public interface ProgressView {
+        /**
+         * @return <em>false</em> when nothing could be shown (e.g. the Activity is finishing)
+         */
+        boolean show(String message);
+
+        void setMessage(String message);
+
+        void dismiss();
+    }
+
+    public interface Scheduler {
+        void postDelayed(Runnable runnable, long delayMillis);
+
+        void removeCallbacks(Runnable runnable);
+
+        long uptimeMillis();
+    }
+
+    /**
+     * Nothing reachable from the controllers holds their Activity strongly (see {@link DialogView}),
+     * so an entry whose Activity is gone without onDestroy is still collected.
+     */
+    private static final Map<Activity, ProgressController> controllers = new WeakHashMap<>();
+
+    private static final int IDLE = 0;
+    private static final int PENDING = 1;
+    private static final int SHOWN = 2;
+    private static final int HIDING = 3;
+
+    private final ProgressView view;
+    private final Scheduler scheduler;
+    private final long graceMillis;
+    private final long minShowMillis;
+
+    private int state = IDLE;
+    private int operations;
+    private String message;
+    private long shownAt;
+
+    private long shownCount;
+    private long suppressedCount;
+
+    private final Runnable show = new Runnable() {
+        @Override
+        public void run() {
+            if (!view.show(message)) {
+                // nada na tela: o próximo begin tenta de novo
+                state = IDLE;
+                return;
+            }
+            state = SHOWN;
+            shownAt = scheduler.uptimeMillis();
+            shownCount++;
+        }
+    };
+
+    private final Runnable hide = new Runnable() {
+        @Override
+        public void run() {
+            state = IDLE;
+            view.dismiss();
+        }
+    };
+
+    public ProgressController(ProgressView view, Scheduler scheduler, long graceMillis, long minShowMillis) {
+        this.view = view;
+        this.scheduler = scheduler;
+        this.graceMillis = graceMillis;
+        this.minShowMillis = minShowMillis;
+    }
+
+    /**
+     * Controller of the Activity, with the default delays; released when it is destroyed.
+     */
+    public static ProgressController of(Activity activity) {
+        ProgressController controller = controllers.get(activity);
+        if (controller != null)
+            return controller;
+
+        // o callback fica registrado na Application: só uma referência fraca para a Activity
+        final WeakReference<Activity> reference = new WeakReference<>(activity);
+        final ProgressController created = new ProgressController(new DialogView(activity), new MainScheduler(),
+                DEFAULT_GRACE_MILLIS, DEFAULT_MIN_SHOW_MILLIS);
+        controllers.put(activity, created);
+
+        final Application application = activity.getApplication();
+        application.registerActivityLifecycleCallbacks(new Application.ActivityLifecycleCallbacks() {
+            @Override
+            public void onActivityDestroyed(Activity a) {
+                if (a == reference.get()) {
+                    application.unregisterActivityLifecycleCallbacks(this);
+                    controllers.remove(a);
+                    created.release();
+                }
+            }
+
+            @Override
+            public void onActivityCreated(Activity a, Bundle savedInstanceState) {
+            }
+
+            @Override
+            public void onActivityStarted(Activity a) {
+            }
+
+            @Override
+            public void onActivityResumed(Activity a) {
+            }
+
+            @Override
+            public void onActivityPaused(Activity a) {
+            }
+
+            @Override
+            public void onActivityStopped(Activity a) {
+            }
+
+            @Override
+            public void onActivitySaveInstanceState(Activity a, Bundle outState) {
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Starts an operation; the message replaces the current one.
+     */
+    public void begin(String message) {
+        this.message = message;
+        operations++;
+
+        switch (state) {
+            case IDLE:
+                state = PENDING;
+                scheduler.postDelayed(show, graceMillis);
+                break;
+            case HIDING:
+                scheduler.removeCallbacks(hide);
+                state = SHOWN;
+                view.setMessage(message);
+                break;
+            case SHOWN:
+                view.setMessage(message);
+                break;
+        }
+    }
+
+    /**
+     * Ends an operation started by {@link #begin(String)}; extra calls are ignored.
+     */
+    public void end() {
+        if (operations == 0)
+            return;
+        if (--operations > 0)
+            return;
+
+        if (state == PENDING) {
+            scheduler.removeCallbacks(show);
+            state = IDLE;
+            suppressedCount++;
+        }
+        else if (state == SHOWN) {
+            long remaining = minShowMillis - (scheduler.uptimeMillis() - shownAt);
+            if (remaining > 0) {
+                state = HIDING;
+                scheduler.postDelayed(hide, remaining);
+            }
+            else {
+                hide.run();
+            }
+        }
+    }
+
+    /**
+     * Ends every operation and dismisses the dialog right away.
+     */
+    public void release() {
+        operations = 0;
+        scheduler.removeCallbacks(show);
+        scheduler.removeCallbacks(hide);
+        if (state == SHOWN || state == HIDING)
+            view.dismiss();
+        state = IDLE;
+    }
+
+    public int getOperationCount() {
+        return operations;
+    }
+
+    public boolean isShowing() {
+        return state == SHOWN || state == HIDING;
+    }
+
+    /**
+     * Times the dialog was actually shown.
+     */
+    public long getShownCount() {
+        return shownCount;
+    }
+
+    /**
+     * Times the operations ended within the grace delay and the dialog was never shown.
+     */
+    public long getSuppressedCount() {
+        return suppressedCount;
+    }
+
+    /**
+     * Holds the Activity weakly and its dialog only while it is on screen, so the controller
+     * never keeps a destroyed Activity alive.
+     */
+    private static final class DialogView implements ProgressView {
+        private final WeakReference<Activity> activity;
+        private ProgressDialog dialog;
+
+        DialogView(Activity activity) {
+            this.activity = new WeakReference<>(activity);
+        }
+
+        @Override
+        public boolean show(String message) {
+            Activity activity = this.activity.get();
+            if (activity == null || activity.isFinishing())
+                return false;
+
+            if (dialog == null) {
+                dialog = new ProgressDialog(activity);
+                dialog.setProgressStyle(ProgressDialog.STYLE_SPINNER);
+                dialog.setCancelable(false);
+            }
+            dialog.setMessage(message);
+            dialog.show();
+            return true;
+        }
+
+        @Override
+        public void setMessage(String message) {
+            if (dialog != null)
+                dialog.setMessage(message);
+        }
+
+        @Override
+        public void dismiss() {
+            try {
+                if (dialog != null)
+                    dialog.dismiss();
+            }
+            catch (Exception e) {
+                // janela já removida junto com a Activity
+            }
+            // o ProgressDialog referencia a Activity pelo Context
+            dialog = null;
+        }
+    }
+
+    private static final class MainScheduler implements Scheduler {
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        @Override
+        public void postDelayed(Runnable runnable, long delayMillis) {
+            handler.postDelayed(runnable, delayMillis);
+        }
+
+        @Override
+        public void removeCallbacks(Runnable runnable) {
+            handler.removeCallbacks(runnable);
+        }
+
+        @Override
+        public long uptimeMillis() {
+            return SystemClock.uptimeMillis();
+        }
+    }
+}
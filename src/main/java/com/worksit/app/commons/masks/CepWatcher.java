@@ -1,50 +1,60 @@
 package com.worksit.app.commons.masks;
 
 import android.text.Editable;
-import android.text.TextWatcher;
+
+import com.worksit.app.commons.cep.CepAddress;
+import com.worksit.app.commons.cep.CepIndex;
 
 /**
  * Created by SKYNET-DEV01 on 30/08/2017.
  */
 
-public class CepWatcher implements TextWatcher {
-    private boolean isRunning = false;
-    private boolean isDeleting = false;
-    private final String mask;
+public class CepWatcher extends MaskWatcher {
+
+    /**
+     * Called on the UI thread as soon as the eighth digit is typed.
+     */
+    public interface OnCepCompleteListener {
+        /**
+         * @param address the CEP found in the index, <em>null</em> when unknown or without index
+         */
+        void onCepComplete(int cep, CepAddress address);
+    }
+
+    private CepIndex cepIndex;
+    private OnCepCompleteListener listener;
+    private int lastNotified = -1;
 
     public CepWatcher(String mask) {
-        this.mask = mask;
+        super(mask);
     }
 
     public static CepWatcher buildCEPMask() {
         return new CepWatcher("#####-###");
     }
 
-    @Override
-    public void beforeTextChanged(CharSequence charSequence, int start, int count, int after) {
-        isDeleting = count > after;
-    }
-
-    @Override
-    public void onTextChanged(CharSequence charSequence, int start, int before, int count) {
+    /**
+     * @param index local index used to resolve the CEP, may be <em>null</em>
+     */
+    public CepWatcher setOnCepCompleteListener(CepIndex index, OnCepCompleteListener listener) {
+        this.cepIndex = index;
+        this.listener = listener;
+        this.lastNotified = -1;
+        return this;
     }
 
     @Override
-    public void afterTextChanged(Editable editable) {
-        if (isRunning || isDeleting) {
+    protected void onFormatted(Editable editable) {
+        if (listener == null)
             return;
+
+        int cep = CepIndex.parse(editable);
+        if (cep < 0) {
+            lastNotified = -1;
         }
-        isRunning = true;
-
-        int editableLength = editable.length();
-        if (editableLength < mask.length()) {
-            if (mask.charAt(editableLength) != '#') {
-                editable.append(mask.charAt(editableLength));
-            } else if (mask.charAt(editableLength-1) != '#') {
-                editable.insert(editableLength-1, mask, editableLength-1, editableLength);
-            }
+        else if (cep != lastNotified) {
+            lastNotified = cep;
+            listener.onCepComplete(cep, cepIndex == null ? null : cepIndex.find(cep));
         }
-
-        isRunning = false;
     }
-}
\ No newline at end of file
+}
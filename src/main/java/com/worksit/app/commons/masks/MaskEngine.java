@@ -0,0 +1,274 @@
+package com.worksit.app.commons.masks;
+
+import android.text.GetChars;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Masks compiled once into slot tables and applied to the whole text at a time.
+ *
+ * In a pattern '#' is a digit, 'A' a letter, '*' a letter or digit and any other char a
+ * literal. With alternatives (e.g. "(##) ####-####" and "(##) #####-####") the one with the
+ * fewest slots that fits the typed chars is used.
+ *
+ * {@link #apply(CharSequence, int, boolean)} extracts the typed chars, lays them over the mask
+ * and maps the cursor in time proportional to the text and mask length, writing into reused
+ * buffers: no Strings are created. Literals are only written before a typed char, so deleting
+ * never fights a trailing literal.
+ *
+ * Not thread safe; keep one per input.
+ */
+public final class MaskEngine {
+
+    private static final byte LITERAL = 0;
+    private static final byte DIGIT = 1;
+    private static final byte LETTER = 2;
+    private static final byte ANY = 3;
+
+    private final char[][] literals;
+    private final byte[][] kinds;
+    private final int[] slotCounts;
+    private final int maxSlots;
+    /** Slot kinds of the widest alternative, used to accept the typed chars */
+    private final byte[] acceptKinds;
+
+    private final char[] raw;
+    private final char[] out;
+    private final Output output = new Output();
+
+    public static MaskEngine compile(String... patterns) {
+        return new MaskEngine(patterns);
+    }
+
+    private MaskEngine(String... patterns) {
+        if (patterns.length == 0)
+            throw new IllegalArgumentException("No mask pattern");
+
+        String[] sorted = patterns.clone();
+        // menos slots primeiro (inserção: poucas alternativas)
+        for (int i = 1; i < sorted.length; i++) {
+            for (int j = i; j > 0 && slotsOf(sorted[j]) < slotsOf(sorted[j - 1]); j--) {
+                String tmp = sorted[j];
+                sorted[j] = sorted[j - 1];
+                sorted[j - 1] = tmp;
+            }
+        }
+
+        literals = new char[sorted.length][];
+        kinds = new byte[sorted.length][];
+        slotCounts = new int[sorted.length];
+        int maxLength = 0;
+        for (int m = 0; m < sorted.length; m++) {
+            String pattern = sorted[m];
+            literals[m] = pattern.toCharArray();
+            kinds[m] = new byte[pattern.length()];
+            for (int i = 0; i < pattern.length(); i++) {
+                byte kind = kindOf(pattern.charAt(i));
+                kinds[m][i] = kind;
+                if (kind != LITERAL)
+                    slotCounts[m]++;
+            }
+            if (slotCounts[m] == 0)
+                throw new IllegalArgumentException("Mask without slots: " + pattern);
+            maxLength = Math.max(maxLength, pattern.length());
+        }
+
+        int widest = sorted.length - 1;
+        maxSlots = slotCounts[widest];
+        acceptKinds = new byte[maxSlots];
+        for (int i = 0, s = 0; i < kinds[widest].length; i++) {
+            if (kinds[widest][i] != LITERAL)
+                acceptKinds[s++] = kinds[widest][i];
+        }
+
+        raw = new char[maxSlots];
+        out = new char[maxLength];
+    }
+
+    /**
+     * Reformats {@code text}; read the result from {@link #output()}.
+     *
+     * @param cursor cursor position in {@code text}
+     * @param dropBeforeCursor also removes the typed char before the cursor, for a backspace
+     *                         that only removed literals
+     * @return the cursor position in the output
+     */
+    public int apply(CharSequence text, int cursor, boolean dropBeforeCursor) {
+        cursor = Math.max(0, Math.min(cursor, text.length()));
+
+        int drop = -1;
+        if (dropBeforeCursor) {
+            for (int i = cursor - 1; i >= 0 && drop < 0; i--) {
+                if (acceptsAnywhere(text.charAt(i)))
+                    drop = i;
+            }
+        }
+
+        // chars digitados, e quantos deles ficam antes do cursor
+        int count = 0;
+        int beforeCursor = 0;
+        for (int i = 0, n = text.length(); i < n && count < maxSlots; i++) {
+            char c = text.charAt(i);
+            if (i == drop || !accepts(acceptKinds[count], c))
+                continue;
+            raw[count++] = c;
+            if (i < cursor)
+                beforeCursor++;
+        }
+
+        int mask = 0;
+        while (mask < slotCounts.length - 1 && slotCounts[mask] < count) {
+            mask++;
+        }
+
+        char[] pattern = literals[mask];
+        byte[] kind = kinds[mask];
+        int length = 0;
+        int r = 0;
+        int newCursor = 0;
+        for (int i = 0; i < pattern.length && r < count; i++) {
+            if (kind[i] == LITERAL) {
+                out[length++] = pattern[i];
+            }
+            else {
+                out[length++] = raw[r++];
+                if (r == beforeCursor)
+                    newCursor = length;
+            }
+        }
+
+        output.length = length;
+        return newCursor;
+    }
+
+    /**
+     * Result of the last {@link #apply}; the view is reused by the next call.
+     */
+    public CharSequence output() {
+        return output;
+    }
+
+    public String format(CharSequence text) {
+        apply(text, text.length(), false);
+        return output.toString();
+    }
+
+    /**
+     * The typed chars, without literals.
+     */
+    public String unmask(CharSequence text) {
+        int count = 0;
+        for (int i = 0, n = text.length(); i < n && count < maxSlots; i++) {
+            char c = text.charAt(i);
+            if (accepts(acceptKinds[count], c))
+                raw[count++] = c;
+        }
+        return new String(raw, 0, count);
+    }
+
+    /**
+     * @return <em>true</em> when the text fills every slot of one of the alternatives
+     */
+    public boolean isComplete(CharSequence text) {
+        int count = 0;
+        for (int i = 0, n = text.length(); i < n && count < maxSlots; i++) {
+            if (accepts(acceptKinds[count], text.charAt(i)))
+                count++;
+        }
+        for (int slots : slotCounts) {
+            if (slots == count)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return <em>true</em> when no char of the range would be taken as typed
+     */
+    boolean isLiteralRange(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (acceptsAnywhere(text.charAt(i)))
+                return false;
+        }
+        return true;
+    }
+
+    private boolean acceptsAnywhere(char c) {
+        for (byte kind : acceptKinds) {
+            if (accepts(kind, c))
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean accepts(byte kind, char c) {
+        switch (kind) {
+            case DIGIT:
+                return c >= '0' && c <= '9';
+            case LETTER:
+                return Character.isLetter(c);
+            case ANY:
+                return Character.isLetterOrDigit(c);
+            default:
+                return false;
+        }
+    }
+
+    private static byte kindOf(char c) {
+        switch (c) {
+            case '#':
+                return DIGIT;
+            case 'A':
+                return LETTER;
+            case '*':
+                return ANY;
+            default:
+                return LITERAL;
+        }
+    }
+
+    private static int slotsOf(String pattern) {
+        int slots = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            if (kindOf(pattern.charAt(i)) != LITERAL)
+                slots++;
+        }
+        return slots;
+    }
+
+    /**
+     * View of {@link #out}; {@link GetChars} lets Editable.replace copy it in bulk.
+     */
+    private final class Output implements CharSequence, GetChars {
+        int length;
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index >= length)
+                throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+            return out[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(out, start, end - start);
+        }
+
+        @Override
+        public void getChars(int start, int end, char[] dest, int destoff) {
+            System.arraycopy(out, start, dest, destoff, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(out, 0, length);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.worksit.app.commons.masks;
+
+import android.text.Editable;
+import android.text.Selection;
+import android.text.TextWatcher;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * {@link TextWatcher} that keeps an input formatted with a {@link MaskEngine}.
+ *
+ * Every change (typing, paste, deletion or an edit in the middle) reformats the whole text
+ * with a single {@link Editable#replace} and keeps the cursor after the same typed char. A
+ * backspace over a literal also removes the typed char before it.
+ */
+public class MaskWatcher implements TextWatcher {
+
+    private final MaskEngine engine;
+    private boolean isRunning = false;
+    private boolean isDeletingLiterals = false;
+
+    public MaskWatcher(String... patterns) {
+        this(MaskEngine.compile(patterns));
+    }
+
+    public MaskWatcher(MaskEngine engine) {
+        this.engine = engine;
+    }
+
+    public static MaskWatcher cpf() {
+        return new MaskWatcher("###.###.###-##");
+    }
+
+    public static MaskWatcher cnpj() {
+        return new MaskWatcher("##.###.###/####-##");
+    }
+
+    /**
+     * CPF up to 11 digits, CNPJ from the 12th on.
+     */
+    public static MaskWatcher cpfOrCnpj() {
+        return new MaskWatcher("###.###.###-##", "##.###.###/####-##");
+    }
+
+    /**
+     * Landline (8 digits) or mobile (9 digits) number with area code.
+     */
+    public static MaskWatcher phone() {
+        return new MaskWatcher("(##) ####-####", "(##) #####-####");
+    }
+
+    public static MaskWatcher cep() {
+        return new MaskWatcher("#####-###");
+    }
+
+    public MaskEngine getEngine() {
+        return engine;
+    }
+
+    @Override
+    public void beforeTextChanged(CharSequence charSequence, int start, int count, int after) {
+        isDeletingLiterals = !isRunning && count > 0 && after == 0
+                && engine.isLiteralRange(charSequence, start, start + count);
+    }
+
+    @Override
+    public void onTextChanged(CharSequence charSequence, int start, int before, int count) {
+    }
+
+    @Override
+    public void afterTextChanged(Editable editable) {
+        if (isRunning) {
+            return;
+        }
+        isRunning = true;
+
+        try {
+            int selection = Selection.getSelectionEnd(editable);
+            int cursor = engine.apply(editable, selection < 0 ? editable.length() : selection, isDeletingLiterals);
+            CharSequence output = engine.output();
+
+            if (!contentEquals(editable, output))
+                editable.replace(0, editable.length(), output);
+            if (selection >= 0)
+                Selection.setSelection(editable, Math.min(cursor, editable.length()));
+        }
+        finally {
+            isRunning = false;
+            isDeletingLiterals = false;
+        }
+
+        onFormatted(editable);
+    }
+
+    /**
+     * Called after each change, with the text already formatted.
+     */
+    protected void onFormatted(Editable editable) {
+    }
+
+    private static boolean contentEquals(CharSequence a, CharSequence b) {
+        int length = a.length();
+        if (length != b.length())
+            return false;
+        for (int i = 0; i < length; i++) {
+            if (a.charAt(i) != b.charAt(i))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+package com.worksit.app.commons.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Monotonic counter striped by thread: each thread adds to its own cache line, so hot counters
+ * updated from several threads do not contend. {@link #get()} sums the stripes.
+ *
+ * Updates are dropped while {@link Metrics} is disabled.
+ */
+public final class Counter {
+
+    /** Longs por linha de cache (64 bytes) */
+    private static final int PADDING = 8;
+    private static final int STRIPES = stripes();
+
+    private final String name;
+    private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void inc() {
+        add(1);
+    }
+
+    public void add(long delta) {
+        if (!Metrics.enabled)
+            return;
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        cells.getAndAdd(stripe * PADDING, delta);
+    }
+
+    public long get() {
+        long sum = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    void reset() {
+        for (int i = 0; i < STRIPES; i++) {
+            cells.set(i * PADDING, 0);
+        }
+    }
+
+    /**
+     * Power of two at least twice the number of cores, at most 64.
+     */
+    private static int stripes() {
+        int target = Math.min(64, Runtime.getRuntime().availableProcessors() * 2);
+        int stripes = 1;
+        while (stripes < target) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+}
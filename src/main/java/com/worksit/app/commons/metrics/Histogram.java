@@ -0,0 +1,141 @@
+package com.worksit.app.commons.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Lock-free distribution of non-negative values in power-of-two buckets: bucket {@code b} holds
+ * the values in [2^(b-1), 2^b), bucket 0 the zeros. Recording is a couple of atomic adds;
+ * percentiles are reported as the upper bound of their bucket, i.e. within a factor of two.
+ *
+ * Timers record microseconds: take {@link Metrics#start()} before the work and call
+ * {@link #recordSince(long)} after it. Updates are dropped while {@link Metrics} is disabled.
+ */
+public final class Histogram {
+
+    private static final int BUCKETS = 64;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    Histogram(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param value negative values are recorded as 0
+     */
+    public void record(long value) {
+        if (!Metrics.enabled)
+            return;
+        if (value < 0)
+            value = 0;
+
+        buckets.getAndIncrement(bucketOf(value));
+        sum.getAndAdd(value);
+        long current;
+        while (value > (current = max.get())) {
+            if (max.compareAndSet(current, value))
+                break;
+        }
+    }
+
+    /**
+     * Records the microseconds elapsed since {@code startNanos}, from {@link Metrics#start()};
+     * does nothing when it is 0 (metrics were disabled at the start).
+     */
+    public void recordSince(long startNanos) {
+        if (startNanos != 0)
+            record((System.nanoTime() - startNanos) / 1000);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        return new Snapshot(name, counts, count, sum.get(), max.get());
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        sum.set(0);
+        max.set(0);
+    }
+
+    static int bucketOf(long value) {
+        return 64 - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Values of a histogram at one moment. Buckets are read one by one, so a snapshot taken
+     * while values are recorded may be off by the values recorded meanwhile.
+     */
+    public static final class Snapshot {
+        private final String name;
+        private final long[] buckets;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        Snapshot(String name, long[] buckets, long count, long sum, long max) {
+            this.name = name;
+            this.buckets = buckets;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Upper bound of the bucket holding the {@code quantile} (0..1) value, capped by the
+         * maximum.
+         */
+        public long getPercentile(double quantile) {
+            if (count == 0)
+                return 0;
+
+            long rank = (long) Math.ceil(quantile * count);
+            long seen = 0;
+            for (int b = 0; b < buckets.length; b++) {
+                seen += buckets[b];
+                if (seen >= rank && seen > 0)
+                    return b == 0 ? 0 : Math.min(max, b == 63 ? Long.MAX_VALUE : (1L << b) - 1);
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.worksit.app.commons.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Registry of the library's counters and histograms.
+ *
+ * Components keep their metrics in static fields ({@code Metrics.counter("net.requests")}) and
+ * update them unconditionally: while disabled, the default, an update is a read of a volatile
+ * flag and {@link #start()} does not read the clock. Enable it early, e.g. in debug builds from
+ * Application.onCreate, and use {@link #dump()} / {@link #toJson()} for bug reports or
+ * {@link #export()} with an exporter.
+ *
+ * Names are dotted, component first; histograms of times end in ".us" (microseconds).
+ */
+public final class Metrics {
+
+    static volatile boolean enabled;
+
+    private static final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private static volatile MetricsExporter exporter;
+
+    private Metrics() {
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Metrics.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The counter with that name, created on the first call.
+     */
+    public static Counter counter(String name) {
+        Counter counter = counters.get(name);
+        if (counter == null) {
+            Counter created = new Counter(name);
+            counter = counters.putIfAbsent(name, created);
+            if (counter == null)
+                counter = created;
+        }
+        return counter;
+    }
+
+    /**
+     * The histogram with that name, created on the first call.
+     */
+    public static Histogram histogram(String name) {
+        Histogram histogram = histograms.get(name);
+        if (histogram == null) {
+            Histogram created = new Histogram(name);
+            histogram = histograms.putIfAbsent(name, created);
+            if (histogram == null)
+                histogram = created;
+        }
+        return histogram;
+    }
+
+    /**
+     * Start of a timed section for {@link Histogram#recordSince(long)}; 0 when disabled.
+     */
+    public static long start() {
+        if (!enabled)
+            return 0;
+        long now = System.nanoTime();
+        return now == 0 ? 1 : now;
+    }
+
+    public static MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(counters.values(), histograms.values());
+    }
+
+    /**
+     * Human readable dump, one metric per line.
+     */
+    public static String dump() {
+        return snapshot().toString();
+    }
+
+    public static String toJson() {
+        return snapshot().toJson();
+    }
+
+    public static void setExporter(MetricsExporter exporter) {
+        Metrics.exporter = exporter;
+    }
+
+    /**
+     * Takes a snapshot and hands it to the exporter, if any.
+     */
+    public static MetricsSnapshot export() {
+        MetricsSnapshot snapshot = snapshot();
+        MetricsExporter target = exporter;
+        if (target != null)
+            target.export(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Zeroes every metric; they stay registered.
+     */
+    public static void reset() {
+        for (Counter counter : counters.values()) {
+            counter.reset();
+        }
+        for (Histogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.worksit.app.commons.metrics;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Destination of {@link Metrics#export()}: Logcat, a file attached to bug reports, an
+ * analytics backend...
+ */
+public interface MetricsExporter {
+
+    void export(MetricsSnapshot snapshot);
+
+}
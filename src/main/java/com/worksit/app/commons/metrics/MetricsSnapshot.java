@@ -0,0 +1,131 @@
+package com.worksit.app.commons.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Values of every metric at one moment, sorted by name.
+ */
+public final class MetricsSnapshot {
+
+    private final long timeMillis = System.currentTimeMillis();
+    private final Map<String, Long> counters = new TreeMap<>();
+    private final Map<String, Histogram.Snapshot> histograms = new TreeMap<>();
+
+    MetricsSnapshot(Collection<Counter> counters, Collection<Histogram> histograms) {
+        for (Counter counter : counters) {
+            this.counters.put(counter.getName(), counter.get());
+        }
+        for (Histogram histogram : histograms) {
+            this.histograms.put(histogram.getName(), histogram.snapshot());
+        }
+    }
+
+    /**
+     * When the snapshot was taken, {@link System#currentTimeMillis()}.
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public Map<String, Long> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    public Map<String, Histogram.Snapshot> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * @return the counter value, 0 when it is not registered
+     */
+    public long getCounter(String name) {
+        Long value = counters.get(name);
+        return value == null ? 0 : value;
+    }
+
+    public Histogram.Snapshot getHistogram(String name) {
+        return histograms.get(name);
+    }
+
+    /**
+     * <pre>
+     * net.requests 12
+     * net.request.us count=12 mean=48211.5 p50=65535 p90=131071 p99=131071 max=98304
+     * </pre>
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(64 * (counters.size() + histograms.size()));
+        for (Map.Entry<String, Long> counter : counters.entrySet()) {
+            sb.append(counter.getKey()).append(' ').append(counter.getValue()).append('\n');
+        }
+        for (Histogram.Snapshot h : histograms.values()) {
+            sb.append(h.getName())
+                    .append(" count=").append(h.getCount())
+                    .append(" mean=").append(Math.round(h.getMean() * 10) / 10.0)
+                    .append(" p50=").append(h.getPercentile(0.5))
+                    .append(" p90=").append(h.getPercentile(0.9))
+                    .append(" p99=").append(h.getPercentile(0.99))
+                    .append(" max=").append(h.getMax())
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * <pre>
+     * {"time":1792427822000,"counters":{"net.requests":12},
+     *  "histograms":{"net.request.us":{"count":12,"sum":578538,"mean":48211.5,"p50":65535,...}}}
+     * </pre>
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder(96 * (counters.size() + histograms.size()) + 64);
+        sb.append("{\"time\":").append(timeMillis).append(",\"counters\":{");
+        boolean first = true;
+        for (Map.Entry<String, Long> counter : counters.entrySet()) {
+            if (!first)
+                sb.append(',');
+            first = false;
+            string(sb, counter.getKey()).append(':').append(counter.getValue());
+        }
+
+        sb.append("},\"histograms\":{");
+        first = true;
+        for (Histogram.Snapshot h : histograms.values()) {
+            if (!first)
+                sb.append(',');
+            first = false;
+            string(sb, h.getName())
+                    .append(":{\"count\":").append(h.getCount())
+                    .append(",\"sum\":").append(h.getSum())
+                    .append(",\"mean\":").append(Math.round(h.getMean() * 10) / 10.0)
+                    .append(",\"p50\":").append(h.getPercentile(0.5))
+                    .append(",\"p90\":").append(h.getPercentile(0.9))
+                    .append(",\"p99\":").append(h.getPercentile(0.99))
+                    .append(",\"max\":").append(h.getMax())
+                    .append('}');
+        }
+        return sb.append("}}").toString();
+    }
+
+    private static StringBuilder string(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\')
+                sb.append('\\').append(c);
+            else if (c < 0x20)
+                sb.append(String.format("\\u%04x", (int) c));
+            else
+                sb.append(c);
+        }
+        return sb.append('"');
+    }
+}
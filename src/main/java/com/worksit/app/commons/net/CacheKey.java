@@ -0,0 +1,48 @@
+package com.worksit.app.commons.net;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Canonical form of a {@link RequestParams}: method, url / base url + end point and the
+ * parameters and queries (maps and {@link ParamBag}s) sorted by name. Two requests with the same key fetch the same resource.
+ */
+public final class CacheKey {
+
+    private CacheKey() {
+    }
+
+    public static String of(RequestParams params) {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append(params.getMethod() == null ? "GET" : params.getMethod().toUpperCase(Locale.US));
+        sb.append(' ').append(UrlCompiler.templateOf(params));
+        appendSorted(sb.append(" q:"), params.getQueriesMap());
+        if (params.getQueriesBag() != null)
+            params.getQueriesBag().writeSorted(sb.append(" qb:"));
+        appendSorted(sb.append(" p:"), params.getParametersMap());
+        if (params.getParametersBag() != null)
+            params.getParametersBag().writeSorted(sb.append(" pb:"));
+        return sb.toString();
+    }
+
+    private static void appendSorted(StringBuilder sb, Map<String, Object> map) {
+        if (map == null || map.isEmpty())
+            return;
+
+        Map<String, Object> sorted = map instanceof TreeMap ? map : new TreeMap<>(map);
+        boolean first = true;
+        for (Map.Entry<String, Object> e : sorted.entrySet()) {
+            if (!first)
+                sb.append('&');
+            UrlEncoding.appendEncoded(sb, e.getKey());
+            sb.append('=');
+            UrlEncoding.appendValue(sb, e.getValue());
+            first = false;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.GenericCallback;
+
+import java.net.HttpURLConnection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * {@link RequestExecutor} front end that serves GET requests from a {@link ResponseCache}.
+ *
+ * <ul>
+ *     <li>fresh entry (younger than {@code maxAge}): delivered without touching the network;
+ *     memory hits are delivered on the calling thread, disk hits on the cache I/O thread;</li>
+ *     <li>stale entry within the {@code staleWhileRevalidate} window: delivered immediately and
+ *     revalidated in background, so the next call gets the updated copy;</li>
+ *     <li>older entry: conditional request with "If-None-Match" / "If-Modified-Since";
+ *     a 304 refreshes the entry and delivers the cached body;</li>
+ *     <li>miss: plain request, stored unless the response says "Cache-Control: no-store".</li>
+ * </ul>
+ *
+ * Other methods go straight to the executor.
+ */
+public class CachingRequestExecutor implements RequestRunner {
+
+    private final RequestExecutor executor;
+    private final ResponseCache cache;
+    private final ExecutorService io;
+    private final long maxAgeMillis;
+    private final long staleWhileRevalidateMillis;
+    private final Set<String> revalidating = new HashSet<>();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong freshHits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong networkFetches = new AtomicLong();
+    private final AtomicLong bytesFromNetwork = new AtomicLong();
+
+    public CachingRequestExecutor(RequestExecutor executor, ResponseCache cache, long maxAgeMillis, long staleWhileRevalidateMillis) {
+        this.executor = executor;
+        this.cache = cache;
+        this.maxAgeMillis = maxAgeMillis;
+        this.staleWhileRevalidateMillis = staleWhileRevalidateMillis;
+        this.io = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "ResponseCache-io");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    public ResponseCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Stops the cache I/O thread together with the executor. Requests still waiting for the
+     * disk are dropped; afterwards new requests are rejected like in
+     * {@link RequestExecutor#shutdown()}.
+     */
+    public void shutdown() {
+        io.shutdown();
+        executor.shutdown();
+    }
+
+    /**
+     * A fresh memory hit is delivered before this method returns, on the calling thread; every
+     * other outcome arrives later, on the cache I/O thread or on a worker thread of the
+     * executor. Callers that must not be re-entered (e.g. code that updates the UI after
+     * {@code execute} returns) have to post the delivery themselves.
+     */
+    @Override
+    public RequestCall execute(final RequestParams params, final GenericCallback<Response> callback) {
+        String method = params.getMethod();
+        if (method != null && !"GET".equalsIgnoreCase(method))
+            return executor.execute(params, callback);
+
+        requests.incrementAndGet();
+        final String key = CacheKey.of(params);
+        final CachedCall call = new CachedCall(callback);
+
+        ResponseCache.Entry memory = cache.peekMemory(key);
+        if (memory != null && age(memory) < maxAgeMillis) {
+            cache.recordMemoryHit(memory);
+            freshHits.incrementAndGet();
+            call.deliver(memory.toResponse());
+            return call;
+        }
+
+        try {
+            io.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (call.isDone())
+                        return;
+
+                    ResponseCache.Entry entry = cache.get(key);
+                    if (entry == null) {
+                        fetch(params, key, null, call);
+                        return;
+                    }
+
+                    long age = age(entry);
+                    if (age < maxAgeMillis) {
+                        freshHits.incrementAndGet();
+                        call.deliver(entry.toResponse());
+                    }
+                    else if (age < maxAgeMillis + staleWhileRevalidateMillis) {
+                        staleHits.incrementAndGet();
+                        call.deliver(entry.toResponse());
+                        revalidateInBackground(params, key, entry);
+                    }
+                    else {
+                        fetch(params, key, entry, call);
+                    }
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            call.fail(e);
+        }
+        return call;
+    }
+
+    //region Métricas
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getFreshHitCount() {
+        return freshHits.get();
+    }
+
+    public long getStaleHitCount() {
+        return staleHits.get();
+    }
+
+    public long getNotModifiedCount() {
+        return notModified.get();
+    }
+
+    public long getNetworkCount() {
+        return networkFetches.get();
+    }
+
+    public long getBytesFromNetwork() {
+        return bytesFromNetwork.get();
+    }
+
+    //endregion
+
+    private void revalidateInBackground(RequestParams params, final String key, ResponseCache.Entry entry) {
+        synchronized (revalidating) {
+            if (!revalidating.add(key))
+                return;
+        }
+
+        fetch(params, key, entry, new CachedCall(new GenericCallback<Response>() {
+            @Override
+            public void onSuccess(Response data) {
+                done();
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                done();
+            }
+
+            private void done() {
+                synchronized (revalidating) {
+                    revalidating.remove(key);
+                }
+            }
+        }));
+    }
+
+    private void fetch(RequestParams params, final String key, final ResponseCache.Entry entry, final CachedCall call) {
+        Map<String, String> headers = null;
+        if (entry != null && entry.hasValidators()) {
+            headers = new HashMap<>();
+            if (entry.getEtag() != null)
+                headers.put("If-None-Match", entry.getEtag());
+            if (entry.getLastModified() != null)
+                headers.put("If-Modified-Since", entry.getLastModified());
+        }
+
+        networkFetches.incrementAndGet();
+        call.network = executor.execute(params, headers, new GenericCallback<Response>() {
+            @Override
+            public void onSuccess(Response data) {
+                bytesFromNetwork.addAndGet(data.getBody().length);
+
+                if (data.getCode() == HttpURLConnection.HTTP_NOT_MODIFIED && entry != null) {
+                    notModified.incrementAndGet();
+                    cache.touch(entry);
+                    call.deliver(entry.toResponse());
+                    return;
+                }
+
+                String cacheControl = data.getHeader("Cache-Control");
+                if (data.getCode() == HttpURLConnection.HTTP_OK
+                        && (cacheControl == null || !cacheControl.toLowerCase(Locale.US).contains("no-store")))
+                    cache.put(key, data);
+                else if (entry != null)
+                    cache.remove(key);
+
+                call.deliver(data);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                call.fail(ex);
+            }
+        });
+        if (call.isCancelled())
+            call.network.cancel();
+    }
+
+    private static long age(ResponseCache.Entry entry) {
+        return System.currentTimeMillis() - entry.getStoredAt();
+    }
+
+    private static final int PENDING = 0;
+    private static final int DONE = 1;
+    private static final int CANCELLED = 2;
+
+    private static final class CachedCall implements RequestCall {
+        final GenericCallback<Response> callback;
+        final AtomicInteger state = new AtomicInteger(PENDING);
+        volatile RequestCall network;
+
+        CachedCall(GenericCallback<Response> callback) {
+            this.callback = callback;
+        }
+
+        void deliver(Response response) {
+            if (state.compareAndSet(PENDING, DONE))
+                callback.onSuccess(response);
+        }
+
+        void fail(Exception ex) {
+            if (state.compareAndSet(PENDING, DONE))
+                callback.onError(ex);
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED))
+                return false;
+            RequestCall n = network;
+            if (n != null)
+                n.cancel();
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state.get() != PENDING;
+        }
+    }
+}
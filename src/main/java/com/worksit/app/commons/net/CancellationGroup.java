@@ -0,0 +1,79 @@
+package com.worksit.app.commons.net;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Set of requests cancelled together, usually bound to the lifecycle of an Activity or
+ * Fragment through {@link LifecycleCancellation}.
+ *
+ * Requests added after {@link #cancel()} are cancelled immediately.
+ */
+public class CancellationGroup {
+
+    private final String name;
+    private final Set<RequestCall> calls = new LinkedHashSet<>();
+    private boolean cancelled;
+
+    public CancellationGroup(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void add(RequestCall call) {
+        synchronized (calls) {
+            if (!cancelled) {
+                calls.add(call);
+                return;
+            }
+        }
+        call.cancel();
+    }
+
+    public void remove(RequestCall call) {
+        synchronized (calls) {
+            calls.remove(call);
+        }
+    }
+
+    /**
+     * Cancels every pending request of the group.
+     * @return number of requests cancelled
+     */
+    public int cancel() {
+        List<RequestCall> pending;
+        synchronized (calls) {
+            cancelled = true;
+            pending = new ArrayList<>(calls);
+            calls.clear();
+        }
+
+        int count = 0;
+        for (RequestCall call : pending) {
+            if (call.cancel())
+                count++;
+        }
+        return count;
+    }
+
+    public boolean isCancelled() {
+        synchronized (calls) {
+            return cancelled;
+        }
+    }
+
+    public int size() {
+        synchronized (calls) {
+            return calls.size();
+        }
+    }
+}
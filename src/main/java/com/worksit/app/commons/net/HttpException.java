@@ -0,0 +1,31 @@
+package com.worksit.app.commons.net;
+
+import java.io.IOException;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Delivered to {@link com.worksit.app.commons.callbacks.GenericCallback#onError(Exception)}
+ * when the server answers with a non successful status code.
+ */
+public class HttpException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Response response;
+
+    public HttpException(Response response) {
+        super("HTTP " + response.getCode() + " - " + response.getUrl());
+        this.response = response;
+    }
+
+    public int getCode() {
+        return response.getCode();
+    }
+
+    public Response getResponse() {
+        return response;
+    }
+}
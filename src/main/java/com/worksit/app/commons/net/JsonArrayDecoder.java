@@ -0,0 +1,225 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.StreamingCallback;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Incremental decoder for a top level JSON array.
+ *
+ * The stream is scanned once; each element is cut out as soon as its closing token arrives,
+ * handed to the {@link ItemParser} (e.g. Gson {@code fromJson}) and delivered to the
+ * {@link StreamingCallback} in batches. Memory in use is bounded by the read buffer, one
+ * element of at most {@code maxItemChars} and one batch, whatever the size of the response.
+ *
+ * Instances hold no decoding state and may be shared between threads.
+ */
+public class JsonArrayDecoder<T> {
+
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final int DEFAULT_MAX_ITEM_CHARS = 256 * 1024;
+
+    /**
+     * Converts the JSON text of one array element.
+     */
+    public interface ItemParser<T> {
+        T parse(String json) throws Exception;
+    }
+
+    private static final int BEFORE_ARRAY = 0;
+    private static final int BEFORE_VALUE = 1;
+    private static final int IN_VALUE = 2;
+    private static final int AFTER_VALUE = 3;
+    private static final int DONE = 4;
+
+    private final ItemParser<T> parser;
+    private final int batchSize;
+    private final int maxItemChars;
+
+    public JsonArrayDecoder(ItemParser<T> parser) {
+        this(parser, DEFAULT_BATCH_SIZE, DEFAULT_MAX_ITEM_CHARS);
+    }
+
+    public JsonArrayDecoder(ItemParser<T> parser, int batchSize, int maxItemChars) {
+        if (batchSize < 1 || maxItemChars < 1)
+            throw new IllegalArgumentException("Invalid decoder limits");
+
+        this.parser = parser;
+        this.batchSize = batchSize;
+        this.maxItemChars = maxItemChars;
+    }
+
+    /**
+     * Reads the array to its closing bracket, calling {@link StreamingCallback#onBatch(List)}
+     * for every {@code batchSize} items and {@link StreamingCallback#onComplete(int)} at the end.
+     * The reader is not closed.
+     *
+     * @return number of items decoded
+     * @exception IOException malformed or truncated array, or element larger than {@code maxItemChars}
+     * @exception Exception whatever the {@link ItemParser} throws
+     */
+    public int decode(Reader reader, StreamingCallback<T> callback) throws Exception {
+        char[] buffer = new char[8192];
+        Decoding decoding = new Decoding(callback);
+
+        int read;
+        while (decoding.state != DONE && (read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read && decoding.state != DONE; i++) {
+                decoding.accept(buffer[i]);
+            }
+        }
+
+        if (decoding.state != DONE)
+            throw new EOFException("Unterminated JSON array after " + decoding.count + " items");
+
+        return decoding.finish();
+    }
+
+    /**
+     * Scanner state of one {@link #decode(Reader, StreamingCallback)} call.
+     */
+    private final class Decoding {
+        final StreamingCallback<T> callback;
+        final StringBuilder item = new StringBuilder(256);
+        /** '{' and '[' still open inside the current item, innermost last */
+        final StringBuilder nesting = new StringBuilder();
+        final List<T> batch = new ArrayList<>(batchSize);
+
+        int state = BEFORE_ARRAY;
+        int count;
+        boolean inString;
+        boolean escaped;
+        boolean afterComma;
+
+        Decoding(StreamingCallback<T> callback) {
+            this.callback = callback;
+        }
+
+        void accept(char c) throws Exception {
+            switch (state) {
+                case BEFORE_ARRAY:
+                    if (c == '[')
+                        state = BEFORE_VALUE;
+                    else if (!isWhitespace(c) && c != '\uFEFF')
+                        throw new IOException("Expected '[' but found '" + c + "'");
+                    break;
+
+                case BEFORE_VALUE:
+                    if (isWhitespace(c))
+                        break;
+                    if (c == ']' && !afterComma) {
+                        state = DONE;
+                        break;
+                    }
+                    if (c == ',' || c == ']')
+                        throw new IOException("Unexpected '" + c + "' at item " + count);
+                    item.setLength(0);
+                    state = IN_VALUE;
+                    inValue(c);
+                    break;
+
+                case IN_VALUE:
+                    inValue(c);
+                    break;
+
+                case AFTER_VALUE:
+                    afterValue(c);
+                    break;
+            }
+        }
+
+        private void inValue(char c) throws Exception {
+            if (inString) {
+                if (escaped)
+                    escaped = false;
+                else if (c == '\\')
+                    escaped = true;
+                else if (c == '"')
+                    inString = false;
+
+                append(c);
+                if (!inString && nesting.length() == 0)
+                    state = AFTER_VALUE;
+                return;
+            }
+
+            boolean topLevel = nesting.length() == 0;
+            if (topLevel && (isWhitespace(c) || c == ',' || c == ']')) {
+                // fim de um escalar (número, true, false, null)
+                if (isWhitespace(c))
+                    state = AFTER_VALUE;
+                else
+                    afterValue(c);
+                return;
+            }
+
+            if (c == '"' || c == '{' || c == '[') {
+                if (topLevel && item.length() > 0)
+                    throw new IOException("Unexpected '" + c + "' after item " + count);
+                if (c == '"')
+                    inString = true;
+                else
+                    nesting.append(c);
+            }
+            else if (c == '}' || c == ']') {
+                int last = nesting.length() - 1;
+                if (last < 0 || nesting.charAt(last) != (c == '}' ? '{' : '['))
+                    throw new IOException("Unexpected '" + c + "' at item " + count);
+                nesting.setLength(last);
+            }
+
+            append(c);
+            if (nesting.length() == 0 && (c == '}' || c == ']'))
+                state = AFTER_VALUE;
+        }
+
+        private void afterValue(char c) throws Exception {
+            if (c == ',') {
+                finishItem();
+                afterComma = true;
+                state = BEFORE_VALUE;
+            }
+            else if (c == ']') {
+                finishItem();
+                state = DONE;
+            }
+            else if (!isWhitespace(c)) {
+                throw new IOException("Expected ',' or ']' after item " + count + " but found '" + c + "'");
+            }
+        }
+
+        private void append(char c) throws IOException {
+            if (item.length() >= maxItemChars)
+                throw new IOException("Item " + count + " exceeds " + maxItemChars + " chars");
+            item.append(c);
+        }
+
+        private void finishItem() throws Exception {
+            batch.add(parser.parse(item.toString()));
+            count++;
+            if (batch.size() >= batchSize) {
+                callback.onBatch(new ArrayList<>(batch));
+                batch.clear();
+            }
+        }
+
+        int finish() {
+            if (!batch.isEmpty())
+                callback.onBatch(batch);
+            callback.onComplete(count);
+            return count;
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+}
@@ -0,0 +1,114 @@
+package com.worksit.app.commons.net;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+import android.support.v4.app.Fragment;
+import android.support.v4.app.FragmentManager;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * {@link CancellationGroup}s tied to the lifecycle of an Activity or Fragment: the group is
+ * cancelled when its owner is destroyed, so requests of a screen that is gone never keep the
+ * workers busy nor reach their callbacks.
+ *
+ * Must be called on the main thread. Each owner gets a single group.
+ */
+public final class LifecycleCancellation {
+
+    private static final Map<Object, CancellationGroup> groups = new WeakHashMap<>();
+
+    private LifecycleCancellation() {
+    }
+
+    /**
+     * Group cancelled when the activity is destroyed. The callback registered on the
+     * Application keeps only a weak reference, so an activity that is never destroyed can
+     * still be collected.
+     */
+    public static CancellationGroup of(Activity activity) {
+        CancellationGroup group = groups.get(activity);
+        if (group != null)
+            return group;
+
+        final CancellationGroup created = new CancellationGroup(activity.getClass().getSimpleName());
+        groups.put(activity, created);
+
+        final WeakReference<Activity> owner = new WeakReference<>(activity);
+        final Application application = activity.getApplication();
+        application.registerActivityLifecycleCallbacks(new Application.ActivityLifecycleCallbacks() {
+            @Override
+            public void onActivityDestroyed(Activity a) {
+                Activity target = owner.get();
+                if (target != null && a != target)
+                    return;
+
+                // target nulo: coletada sem passar por aqui, a tela também já não existe
+                application.unregisterActivityLifecycleCallbacks(this);
+                if (target != null)
+                    groups.remove(target);
+                created.cancel();
+            }
+
+            @Override
+            public void onActivityCreated(Activity a, Bundle savedInstanceState) {
+            }
+
+            @Override
+            public void onActivityStarted(Activity a) {
+            }
+
+            @Override
+            public void onActivityResumed(Activity a) {
+            }
+
+            @Override
+            public void onActivityPaused(Activity a) {
+            }
+
+            @Override
+            public void onActivityStopped(Activity a) {
+            }
+
+            @Override
+            public void onActivitySaveInstanceState(Activity a, Bundle outState) {
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Group cancelled when the fragment is destroyed. The fragment must be attached.
+     */
+    public static CancellationGroup of(final Fragment fragment) {
+        CancellationGroup group = groups.get(fragment);
+        if (group != null)
+            return group;
+
+        final FragmentManager manager = fragment.getFragmentManager();
+        if (manager == null)
+            throw new IllegalStateException("Fragment " + fragment + " is not attached");
+
+        final CancellationGroup created = new CancellationGroup(fragment.getClass().getSimpleName());
+        groups.put(fragment, created);
+
+        manager.registerFragmentLifecycleCallbacks(new FragmentManager.FragmentLifecycleCallbacks() {
+            @Override
+            public void onFragmentDestroyed(FragmentManager fm, Fragment f) {
+                if (f == fragment) {
+                    manager.unregisterFragmentLifecycleCallbacks(this);
+                    groups.remove(fragment);
+                    created.cancel();
+                }
+            }
+        }, false);
+        return created;
+    }
+}
@@ -0,0 +1,343 @@
+package com.worksit.app.commons.net;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Ordered parameter container for {@link RequestParams}, alternative to the
+ * {@code Map<String, Object>} fields.
+ *
+ * Values are kept unboxed in parallel arrays (int/long/boolean and the raw bits of doubles in a
+ * {@code long[]}, Strings in a {@code String[]}), in insertion order, and are written straight
+ * into the url/form encoding without {@code toString()} on each value. Putting an existing name
+ * replaces its value in place.
+ *
+ * Not thread safe.
+ */
+public final class ParamBag {
+
+    private static final byte INT = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte STRING = 4;
+
+    private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private String[] names;
+    private byte[] types;
+    private long[] numbers;
+    private String[] strings;
+    private int size;
+
+    public ParamBag() {
+        this(8);
+    }
+
+    public ParamBag(int capacity) {
+        capacity = Math.max(capacity, 1);
+        names = new String[capacity];
+        types = new byte[capacity];
+        numbers = new long[capacity];
+        strings = new String[capacity];
+    }
+
+    //region Adaptadores
+
+    /**
+     * Copies a parameter map. Integer, Long, Short, Byte, Double and Boolean values are stored
+     * unboxed, anything else (Float included, so it keeps the digits of {@code Float.toString})
+     * through {@code String.valueOf}; <em>null</em> values are skipped.
+     */
+    public static ParamBag fromMap(Map<String, ?> map) {
+        ParamBag bag = new ParamBag(map == null ? 8 : map.size());
+        if (map != null) {
+            for (Map.Entry<String, ?> e : map.entrySet()) {
+                bag.putObject(e.getKey(), e.getValue());
+            }
+        }
+        return bag;
+    }
+
+    /**
+     * Boxed copy, in insertion order, for code written against
+     * {@link RequestParams#getParametersMap()} / {@link RequestParams#getQueriesMap()}.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            map.put(names[i], valueAt(i));
+        }
+        return map;
+    }
+
+    //endregion
+
+    public ParamBag put(String name, int value) {
+        int i = slot(name, INT);
+        numbers[i] = value;
+        return this;
+    }
+
+    public ParamBag put(String name, long value) {
+        int i = slot(name, LONG);
+        numbers[i] = value;
+        return this;
+    }
+
+    public ParamBag put(String name, double value) {
+        int i = slot(name, DOUBLE);
+        numbers[i] = Double.doubleToRawLongBits(value);
+        return this;
+    }
+
+    public ParamBag put(String name, boolean value) {
+        int i = slot(name, BOOLEAN);
+        numbers[i] = value ? 1 : 0;
+        return this;
+    }
+
+    /**
+     * A <em>null</em> value removes the parameter.
+     */
+    public ParamBag put(String name, String value) {
+        if (value == null)
+            return remove(name);
+        int i = slot(name, STRING);
+        strings[i] = value;
+        return this;
+    }
+
+    public ParamBag remove(String name) {
+        int i = indexOf(name);
+        if (i >= 0) {
+            int tail = size - i - 1;
+            System.arraycopy(names, i + 1, names, i, tail);
+            System.arraycopy(types, i + 1, types, i, tail);
+            System.arraycopy(numbers, i + 1, numbers, i, tail);
+            System.arraycopy(strings, i + 1, strings, i, tail);
+            size--;
+            names[size] = null;
+            strings[size] = null;
+        }
+        return this;
+    }
+
+    public void clear() {
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(strings, 0, size, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(String name) {
+        return indexOf(name) >= 0;
+    }
+
+    public String nameAt(int index) {
+        checkIndex(index);
+        return names[index];
+    }
+
+    /**
+     * Boxed value; prefer the typed getters or the write methods on hot paths.
+     */
+    public Object valueAt(int index) {
+        checkIndex(index);
+        switch (types[index]) {
+            case INT:
+                return (int) numbers[index];
+            case LONG:
+                return numbers[index];
+            case DOUBLE:
+                return Double.longBitsToDouble(numbers[index]);
+            case BOOLEAN:
+                return numbers[index] != 0;
+            default:
+                return strings[index];
+        }
+    }
+
+    public Object get(String name) {
+        int i = indexOf(name);
+        return i < 0 ? null : valueAt(i);
+    }
+
+    public long getLong(String name, long defaultValue) {
+        int i = indexOf(name);
+        if (i < 0)
+            return defaultValue;
+        if (types[i] == DOUBLE)
+            return (long) Double.longBitsToDouble(numbers[i]);
+        if (types[i] == STRING)
+            return defaultValue;
+        return numbers[i];
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        int i = indexOf(name);
+        if (i < 0 || types[i] == STRING)
+            return defaultValue;
+        if (types[i] == DOUBLE)
+            return Double.longBitsToDouble(numbers[i]);
+        return numbers[i];
+    }
+
+    public String getString(String name) {
+        int i = indexOf(name);
+        if (i < 0)
+            return null;
+        return types[i] == STRING ? strings[i] : String.valueOf(valueAt(i));
+    }
+
+    //region Codificação
+
+    /**
+     * Writes "name=value&amp;name=value" percent-encoded (RFC 3986), usable both as query
+     * string and as application/x-www-form-urlencoded body.
+     */
+    public void writeUrlEncoded(StringBuilder sb) {
+        for (int i = 0; i < size; i++) {
+            if (i > 0)
+                sb.append('&');
+            UrlEncoding.appendEncoded(sb, names[i]);
+            sb.append('=');
+            appendValue(sb, i);
+        }
+    }
+
+    public byte[] toUrlEncodedBytes() {
+        StringBuilder sb = new StringBuilder(size * 16);
+        writeUrlEncoded(sb);
+        return sb.toString().getBytes(UTF_8);
+    }
+
+    /**
+     * Writes the value of the parameter, percent-encoded.
+     * @return <em>false</em> when the parameter does not exist
+     */
+    boolean appendValue(StringBuilder sb, String name) {
+        int i = indexOf(name);
+        if (i < 0)
+            return false;
+        appendValue(sb, i);
+        return true;
+    }
+
+    /**
+     * Same as {@link #writeUrlEncoded} with the names sorted, for canonical keys.
+     */
+    void writeSorted(StringBuilder sb) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return names[a].compareTo(names[b]);
+            }
+        });
+
+        for (int k = 0; k < size; k++) {
+            int i = order[k];
+            if (k > 0)
+                sb.append('&');
+            UrlEncoding.appendEncoded(sb, names[i]);
+            sb.append('=');
+            appendValue(sb, i);
+        }
+    }
+
+    private void appendValue(StringBuilder sb, int i) {
+        switch (types[i]) {
+            case INT:
+            case LONG:
+                sb.append(numbers[i]);
+                break;
+            case DOUBLE:
+                // mesmo texto de Double.toString, sem alocar no caso comum de valores inteiros;
+                // -0.0 fica fora porque (long) -0.0 perde o sinal
+                double d = Double.longBitsToDouble(numbers[i]);
+                if (d == (long) d && Math.abs(d) < 1e7 && numbers[i] != NEGATIVE_ZERO_BITS)
+                    sb.append((long) d).append(".0");
+                else
+                    UrlEncoding.appendEncoded(sb, Double.toString(d));
+                break;
+            case BOOLEAN:
+                sb.append(numbers[i] != 0);
+                break;
+            default:
+                UrlEncoding.appendEncoded(sb, strings[i]);
+        }
+    }
+
+    //endregion
+
+    private void putObject(String name, Object value) {
+        if (value == null)
+            return;
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+            put(name, ((Number) value).intValue());
+        else if (value instanceof Long)
+            put(name, ((Long) value).longValue());
+        else if (value instanceof Double)
+            put(name, ((Double) value).doubleValue());
+        else if (value instanceof Float)
+            // como no mapa: 0.1f é "0.1" e não o double 0.10000000149011612
+            put(name, value.toString());
+        else if (value instanceof Boolean)
+            put(name, ((Boolean) value).booleanValue());
+        else
+            put(name, String.valueOf(value));
+    }
+
+    private int slot(String name, byte type) {
+        if (name == null)
+            throw new IllegalArgumentException("Parameter name must not be null");
+
+        int i = indexOf(name);
+        if (i < 0) {
+            if (size == names.length)
+                grow();
+            i = size++;
+            names[i] = name;
+        }
+        types[i] = type;
+        strings[i] = null;
+        return i;
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name))
+                return i;
+        }
+        return -1;
+    }
+
+    private void grow() {
+        int capacity = names.length * 2;
+        names = Arrays.copyOf(names, capacity);
+        types = Arrays.copyOf(types, capacity);
+        numbers = Arrays.copyOf(numbers, capacity);
+        strings = Arrays.copyOf(strings, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+}
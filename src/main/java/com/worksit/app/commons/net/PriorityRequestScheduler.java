@@ -0,0 +1,297 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.GenericCallback;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Priority front end for a {@link RequestRunner}.
+ *
+ * At most {@code maxInFlight} requests are handed to the delegate at a time; the rest wait in
+ * one bounded queue per {@link RequestPriority} and are dispatched highest priority first (FIFO
+ * inside a class). Keep {@code maxInFlight} at or below the worker count of the executor so
+ * that priorities decide who gets a worker.
+ *
+ * Requests may join a {@link CancellationGroup}; a cancelled request, queued or running, never
+ * reaches its callback. When a queue is full the new request is rejected with a
+ * {@link RejectedExecutionException} on the calling thread.
+ */
+public class PriorityRequestScheduler implements RequestRunner {
+
+    private static final int PRIORITIES = RequestPriority.values().length;
+
+    private final RequestRunner delegate;
+    private final int maxInFlight;
+    private final int maxQueued;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final ArrayDeque<Job>[] queues = new ArrayDeque[PRIORITIES];
+    private int inFlight;
+
+    private final long[] submitted = new long[PRIORITIES];
+    private final long[] rejected = new long[PRIORITIES];
+    private final long[] cancelled = new long[PRIORITIES];
+    private final long[] dispatched = new long[PRIORITIES];
+    private final long[] totalWaitNanos = new long[PRIORITIES];
+    private final long[] maxWaitNanos = new long[PRIORITIES];
+    private final int[] maxDepth = new int[PRIORITIES];
+
+    /**
+     * @param maxInFlight requests running in the delegate at the same time
+     * @param maxQueued waiting requests per priority class
+     */
+    public PriorityRequestScheduler(RequestRunner delegate, int maxInFlight, int maxQueued) {
+        if (maxInFlight < 1 || maxQueued < 0)
+            throw new IllegalArgumentException("Invalid scheduler limits");
+
+        this.delegate = delegate;
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        for (int i = 0; i < PRIORITIES; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * {@link RequestPriority#VISIBLE} request without cancellation group.
+     */
+    @Override
+    public RequestCall execute(RequestParams params, GenericCallback<Response> callback) {
+        return execute(params, RequestPriority.VISIBLE, null, callback);
+    }
+
+    /**
+     * @param group cancellation group of the request, may be <em>null</em>
+     */
+    public RequestCall execute(RequestParams params, RequestPriority priority, CancellationGroup group, GenericCallback<Response> callback) {
+        Job job = new Job(params, priority, group, callback);
+        int p = priority.ordinal();
+        boolean accepted;
+        boolean reject = false;
+
+        // entra no grupo antes de ficar visível para o dispatch: um job que terminasse antes do
+        // add ficaria preso no grupo. Em um grupo já cancelado o job sai daqui cancelado
+        if (group != null)
+            group.add(job);
+
+        synchronized (queues) {
+            submitted[p]++;
+            accepted = queues[p].size() < maxQueued || inFlight < maxInFlight;
+            if (accepted) {
+                if (job.state.get() != QUEUED)
+                    return job;
+                queues[p].add(job);
+                maxDepth[p] = Math.max(maxDepth[p], queues[p].size());
+            }
+            else {
+                rejected[p]++;
+                reject = job.state.compareAndSet(QUEUED, DONE);
+            }
+        }
+
+        if (!accepted) {
+            if (group != null)
+                group.remove(job);
+            if (reject)
+                callback.onError(new RejectedExecutionException(priority + " queue is full"));
+            return job;
+        }
+
+        dispatch();
+        return job;
+    }
+
+    //region Métricas
+
+    public int getQueueDepth(RequestPriority priority) {
+        synchronized (queues) {
+            return queues[priority.ordinal()].size();
+        }
+    }
+
+    public int getMaxQueueDepth(RequestPriority priority) {
+        synchronized (queues) {
+            return maxDepth[priority.ordinal()];
+        }
+    }
+
+    public int getInFlightCount() {
+        synchronized (queues) {
+            return inFlight;
+        }
+    }
+
+    public long getSubmittedCount(RequestPriority priority) {
+        synchronized (queues) {
+            return submitted[priority.ordinal()];
+        }
+    }
+
+    public long getRejectedCount(RequestPriority priority) {
+        synchronized (queues) {
+            return rejected[priority.ordinal()];
+        }
+    }
+
+    public long getCancelledCount(RequestPriority priority) {
+        synchronized (queues) {
+            return cancelled[priority.ordinal()];
+        }
+    }
+
+    /**
+     * Average time between submission and dispatch to the delegate.
+     */
+    public double getAverageWaitMillis(RequestPriority priority) {
+        synchronized (queues) {
+            int p = priority.ordinal();
+            return dispatched[p] == 0 ? 0 : totalWaitNanos[p] / (dispatched[p] * 1e6);
+        }
+    }
+
+    public double getMaxWaitMillis(RequestPriority priority) {
+        synchronized (queues) {
+            return maxWaitNanos[priority.ordinal()] / 1e6;
+        }
+    }
+
+    //endregion
+
+    private void dispatch() {
+        while (true) {
+            Job next = null;
+            synchronized (queues) {
+                if (inFlight >= maxInFlight)
+                    return;
+
+                for (int p = 0; p < PRIORITIES && next == null; p++) {
+                    next = queues[p].poll();
+                }
+                if (next == null)
+                    return;
+                if (!next.state.compareAndSet(QUEUED, RUNNING))
+                    continue;
+
+                inFlight++;
+                int p = next.priority.ordinal();
+                long wait = System.nanoTime() - next.enqueuedAt;
+                dispatched[p]++;
+                totalWaitNanos[p] += wait;
+                maxWaitNanos[p] = Math.max(maxWaitNanos[p], wait);
+            }
+            next.start();
+        }
+    }
+
+    private void finished() {
+        synchronized (queues) {
+            inFlight--;
+        }
+        dispatch();
+    }
+
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+    private static final int CANCELLED = 3;
+
+    private final class Job implements RequestCall, GenericCallback<Response> {
+        final RequestParams params;
+        final RequestPriority priority;
+        final CancellationGroup group;
+        final GenericCallback<Response> callback;
+        final long enqueuedAt = System.nanoTime();
+        final AtomicInteger state = new AtomicInteger(QUEUED);
+        volatile RequestCall call;
+
+        Job(RequestParams params, RequestPriority priority, CancellationGroup group, GenericCallback<Response> callback) {
+            this.params = params;
+            this.priority = priority;
+            this.group = group;
+            this.callback = callback;
+        }
+
+        void start() {
+            RequestCall c;
+            try {
+                c = delegate.execute(params, this);
+            }
+            catch (RuntimeException e) {
+                // o delegate recusou a requisição: libera a vaga e entrega o erro
+                onError(e);
+                return;
+            }
+            call = c;
+            if (state.get() == CANCELLED)
+                c.cancel();
+        }
+
+        @Override
+        public void onSuccess(Response data) {
+            if (complete())
+                callback.onSuccess(data);
+        }
+
+        @Override
+        public void onError(Exception ex) {
+            if (complete())
+                callback.onError(ex);
+        }
+
+        /**
+         * Frees the slot before delivering so the next request starts as soon as possible.
+         * @return <em>false</em> when the job was cancelled meanwhile (its slot was freed then)
+         */
+        private boolean complete() {
+            if (!state.compareAndSet(RUNNING, DONE))
+                return false;
+            if (group != null)
+                group.remove(this);
+            finished();
+            return true;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (state.compareAndSet(QUEUED, CANCELLED)) {
+                synchronized (queues) {
+                    queues[priority.ordinal()].remove(this);
+                    cancelled[priority.ordinal()]++;
+                }
+            }
+            else if (state.compareAndSet(RUNNING, CANCELLED)) {
+                synchronized (queues) {
+                    cancelled[priority.ordinal()]++;
+                }
+                RequestCall c = call;
+                if (c != null)
+                    c.cancel();
+                // o delegate não chama de volta requisições canceladas
+                finished();
+            }
+            else {
+                return false;
+            }
+
+            if (group != null)
+                group.remove(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state.get() >= DONE;
+        }
+    }
+}
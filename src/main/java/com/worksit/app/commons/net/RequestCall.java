@@ -0,0 +1,26 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.Cancellable;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Handle of a request submitted to a {@link RequestExecutor}.
+ *
+ * Once {@link #cancel()} returns the callback of the request is never invoked.
+ */
+public interface RequestCall extends Cancellable {
+
+    /**
+     * Cancels the request. Queued requests are dropped, running ones are aborted.
+     * @return <em>false</em> when the request had already completed
+     */
+    @Override
+    boolean cancel();
+
+    boolean isCancelled();
+
+    boolean isDone();
+}
@@ -0,0 +1,204 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.GenericCallback;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Single-flight layer: identical requests issued while one of them is still running share that
+ * execution, and every registered callback receives its result.
+ *
+ * Requests are identical when their {@link KeyFunction} keys are equal (by default the
+ * {@link CacheKey} of GET requests; other methods are never coalesced). Cancelling one caller
+ * only detaches its callback; the shared request is cancelled when no caller is left.
+ */
+public class RequestCoalescer implements RequestRunner {
+
+    /**
+     * Equality key of a request.
+     */
+    public interface KeyFunction {
+        /**
+         * @return key of the request, or <em>null</em> to run it without coalescing
+         */
+        Object keyOf(RequestParams params);
+    }
+
+    public static final KeyFunction GET_REQUESTS = new KeyFunction() {
+        @Override
+        public Object keyOf(RequestParams params) {
+            String method = params.getMethod();
+            if (method != null && !"GET".equalsIgnoreCase(method))
+                return null;
+            return CacheKey.of(params);
+        }
+    };
+
+    private final RequestRunner delegate;
+    private final KeyFunction keyFunction;
+    private final Map<Object, Flight> inFlight = new HashMap<>();
+
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public RequestCoalescer(RequestRunner delegate) {
+        this(delegate, GET_REQUESTS);
+    }
+
+    public RequestCoalescer(RequestRunner delegate, KeyFunction keyFunction) {
+        this.delegate = delegate;
+        this.keyFunction = keyFunction;
+    }
+
+    @Override
+    public RequestCall execute(RequestParams params, GenericCallback<Response> callback) {
+        Object key = keyFunction.keyOf(params);
+        if (key == null) {
+            executed.incrementAndGet();
+            return delegate.execute(params, callback);
+        }
+
+        Flight flight;
+        Subscriber subscriber;
+        synchronized (inFlight) {
+            flight = inFlight.get(key);
+            if (flight != null) {
+                subscriber = new Subscriber(flight, callback);
+                flight.subscribers.add(subscriber);
+                coalesced.incrementAndGet();
+                return subscriber;
+            }
+
+            flight = new Flight(key);
+            subscriber = new Subscriber(flight, callback);
+            flight.subscribers.add(subscriber);
+            inFlight.put(key, flight);
+        }
+
+        executed.incrementAndGet();
+        RequestCall call = delegate.execute(params, flight);
+        synchronized (inFlight) {
+            flight.call = call;
+            if (flight.cancelled)
+                call.cancel();
+        }
+        return subscriber;
+    }
+
+    /**
+     * Requests actually sent to the delegate.
+     */
+    public long getExecutedCount() {
+        return executed.get();
+    }
+
+    /**
+     * Requests that joined an execution already in flight.
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    public int getInFlightCount() {
+        synchronized (inFlight) {
+            return inFlight.size();
+        }
+    }
+
+    private List<Subscriber> complete(Flight flight) {
+        synchronized (inFlight) {
+            if (inFlight.get(flight.key) == flight)
+                inFlight.remove(flight.key);
+            flight.completed = true;
+            List<Subscriber> subscribers = new ArrayList<>(flight.subscribers);
+            flight.subscribers.clear();
+            return subscribers;
+        }
+    }
+
+    private boolean unsubscribe(Subscriber subscriber) {
+        RequestCall toCancel = null;
+        synchronized (inFlight) {
+            Flight flight = subscriber.flight;
+            if (flight.completed || !flight.subscribers.remove(subscriber))
+                return false;
+
+            if (flight.subscribers.isEmpty()) {
+                flight.cancelled = true;
+                if (inFlight.get(flight.key) == flight)
+                    inFlight.remove(flight.key);
+                toCancel = flight.call;
+            }
+        }
+        if (toCancel != null)
+            toCancel.cancel();
+        return true;
+    }
+
+    private final class Flight implements GenericCallback<Response> {
+        final Object key;
+        final List<Subscriber> subscribers = new ArrayList<>(2);
+        RequestCall call;
+        boolean cancelled;
+        boolean completed;
+
+        Flight(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public void onSuccess(Response data) {
+            for (Subscriber s : complete(this)) {
+                s.done = true;
+                s.callback.onSuccess(data);
+            }
+        }
+
+        @Override
+        public void onError(Exception ex) {
+            for (Subscriber s : complete(this)) {
+                s.done = true;
+                s.callback.onError(ex);
+            }
+        }
+    }
+
+    private final class Subscriber implements RequestCall {
+        final Flight flight;
+        final GenericCallback<Response> callback;
+        volatile boolean cancelled;
+        volatile boolean done;
+
+        Subscriber(Flight flight, GenericCallback<Response> callback) {
+            this.flight = flight;
+            this.callback = callback;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (unsubscribe(this)) {
+                cancelled = true;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done || cancelled;
+        }
+    }
+}
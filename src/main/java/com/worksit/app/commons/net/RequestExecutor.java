@@ -0,0 +1,610 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.GenericCallback;
+import com.worksit.app.commons.callbacks.StreamingCallback;
+import com.worksit.app.commons.metrics.Counter;
+import com.worksit.app.commons.metrics.Histogram;
+import com.worksit.app.commons.metrics.Metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Executes {@link RequestParams} over {@link HttpURLConnection} and delivers the
+ * {@link Response} through a {@link GenericCallback}.
+ *
+ * <ul>
+ *     <li>bounded worker pool ({@code maxThreads}) with at most {@code maxPerHost} requests
+ *     running against the same host; the excess waits in a per host queue limited to
+ *     {@code maxQueued} requests overall;</li>
+ *     <li>every body is read to the end and its stream closed, so the platform keeps the
+ *     connection alive and reuses it for the next request to the same host;</li>
+ *     <li>"Accept-Encoding: gzip" is always sent and gzip bodies are inflated;</li>
+ *     <li>connect/read timeouts.</li>
+ * </ul>
+ *
+ * 2xx and 304 responses go to {@link GenericCallback#onSuccess(Object)}, other status codes
+ * to {@link GenericCallback#onError(Exception)} as {@link HttpException}.
+ * Callbacks run on the worker thread; an exception they throw is not reported back to
+ * {@link GenericCallback#onError(Exception)} but propagates on that thread.
+ */
+public class RequestExecutor implements RequestRunner {
+
+    public static final int DEFAULT_CONNECT_TIMEOUT = 15000;
+    public static final int DEFAULT_READ_TIMEOUT = 30000;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    //region Métricas
+
+    private static final Counter REQUESTS = Metrics.counter("net.requests");
+    private static final Counter FAILURES = Metrics.counter("net.failures");
+    private static final Counter HTTP_ERRORS = Metrics.counter("net.http.errors");
+    private static final Counter REJECTED = Metrics.counter("net.rejected");
+    private static final Counter CANCELS = Metrics.counter("net.cancelled");
+    private static final Counter BYTES_IN = Metrics.counter("net.bytes.in");
+    private static final Histogram REQUEST_TIME = Metrics.histogram("net.request.us");
+
+    //endregion
+
+    private final ThreadPoolExecutor pool;
+    private final int maxPerHost;
+    private final int maxQueued;
+
+    private final Object lock = new Object();
+    private final Map<String, HostQueue> hosts = new HashMap<>();
+    private int queued;
+    private boolean shutdown;
+
+    private volatile int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private volatile int readTimeout = DEFAULT_READ_TIMEOUT;
+
+    public RequestExecutor() {
+        this(4, 2, 64);
+    }
+
+    /**
+     * @param maxThreads worker threads
+     * @param maxPerHost requests running concurrently against the same host
+     * @param maxQueued requests waiting for a host slot; beyond that requests are rejected
+     */
+    public RequestExecutor(int maxThreads, int maxPerHost, int maxQueued) {
+        if (maxThreads < 1 || maxPerHost < 1 || maxQueued < 0)
+            throw new IllegalArgumentException("Invalid executor limits");
+
+        this.maxPerHost = maxPerHost;
+        this.maxQueued = maxQueued;
+        this.pool = new ThreadPoolExecutor(maxThreads, maxThreads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new WorkerFactory());
+        this.pool.allowCoreThreadTimeOut(true);
+    }
+
+    public void setConnectTimeout(int millis) {
+        this.connectTimeout = millis;
+    }
+
+    public void setReadTimeout(int millis) {
+        this.readTimeout = millis;
+    }
+
+    @Override
+    public RequestCall execute(RequestParams params, GenericCallback<Response> callback) {
+        return execute(params, null, callback);
+    }
+
+    /**
+     * Submits the request. The url comes from {@link UrlCompiler#toUrl(RequestParams)}; for
+     * methods with a body, {@link RequestParams#getParametersBag()} (or else
+     * {@link RequestParams#getParametersMap()}) is sent form-urlencoded.
+     *
+     * When the request cannot be queued the callback receives a
+     * {@link RejectedExecutionException} on the calling thread.
+     *
+     * @param headers extra request headers, may be <em>null</em>
+     */
+    public RequestCall execute(RequestParams params, Map<String, String> headers, GenericCallback<Response> callback) {
+        return submit(params, headers, new ResponseExchange(callback));
+    }
+
+    /**
+     * Streams a JSON array response through the decoder: items reach the callback in batches
+     * while the body is still downloading, and the body is never held in memory as a whole.
+     * Non successful status codes are reported as {@link HttpException}.
+     */
+    public <T> RequestCall executeStreaming(RequestParams params, final JsonArrayDecoder<T> decoder, final StreamingCallback<T> callback) {
+        return submit(params, null, new Exchange() {
+            @Override
+            public Runnable handle(final Task task, HttpURLConnection conn) throws Exception {
+                if (!isSuccess(conn.getResponseCode()))
+                    throw new HttpException(new Response(task.url, conn.getResponseCode(), conn.getHeaderFields(), readBody(conn)));
+
+                InputStream in = bodyStream(conn);
+                if (in == null)
+                    throw new IOException("Empty body: " + task.url);
+
+                final int count;
+                try {
+                    Reader reader = new InputStreamReader(in, Response.charsetOf(conn.getContentType()));
+                    count = decoder.decode(reader, new StreamingCallback<T>() {
+                        @Override
+                        public void onBatch(List<T> items) {
+                            if (!task.isRunning())
+                                return;
+                            try {
+                                callback.onBatch(items);
+                            }
+                            catch (RuntimeException e) {
+                                throw new CallbackException(e);
+                            }
+                        }
+
+                        @Override
+                        public void onComplete(int count) {
+                            // entregue por quem chamou, depois de liberar a conexão
+                        }
+
+                        @Override
+                        public void onError(Exception ex) {
+                            // o decoder informa as falhas lançando a exceção
+                        }
+                    });
+                    drain(in);
+                } finally {
+                    in.close();
+                }
+
+                return new Runnable() {
+                    @Override
+                    public void run() {
+                        if (task.complete())
+                            callback.onComplete(count);
+                    }
+                };
+            }
+
+            @Override
+            public void fail(Exception ex) {
+                callback.onError(ex);
+            }
+        });
+    }
+
+    /**
+     * Stops accepting requests. Running requests are completed, queued ones are rejected.
+     */
+    public void shutdown() {
+        ArrayDeque<Task> rejected = new ArrayDeque<>();
+        synchronized (lock) {
+            shutdown = true;
+            for (HostQueue hq : hosts.values()) {
+                rejected.addAll(hq.pending);
+                hq.pending.clear();
+            }
+            queued = 0;
+        }
+        pool.shutdown();
+        for (Task t : rejected) {
+            t.reject();
+        }
+    }
+
+    private RequestCall submit(RequestParams params, Map<String, String> headers, Exchange exchange) {
+        String url = UrlCompiler.toUrl(params);
+        String method = params.getMethod() == null ? "GET" : params.getMethod().toUpperCase(Locale.US);
+        byte[] body = hasBody(method) ? formBody(params) : null;
+
+        Task task = new Task(params.getName(), url, hostOf(url), method, headers, body, exchange);
+        submit(task);
+        return task;
+    }
+
+    private void submit(Task task) {
+        boolean run = false;
+        synchronized (lock) {
+            if (!shutdown) {
+                HostQueue hq = hosts.get(task.host);
+                if (hq == null) {
+                    hq = new HostQueue();
+                    hosts.put(task.host, hq);
+                }
+
+                if (hq.running < maxPerHost) {
+                    hq.running++;
+                    run = true;
+                }
+                else if (queued < maxQueued) {
+                    hq.pending.add(task);
+                    queued++;
+                    return;
+                }
+            }
+        }
+
+        if (!run) {
+            task.reject();
+            return;
+        }
+
+        try {
+            pool.execute(task);
+        }
+        catch (RejectedExecutionException e) {
+            // shutdown entre a verificação e o execute
+            task.reject();
+            finished(task);
+        }
+    }
+
+    private void finished(Task task) {
+        Task next;
+        while (true) {
+            synchronized (lock) {
+                HostQueue hq = hosts.get(task.host);
+                if (hq == null)
+                    return;
+
+                next = hq.pending.poll();
+                if (next != null) {
+                    queued--;
+                }
+                else {
+                    hq.running--;
+                    if (hq.running == 0)
+                        hosts.remove(task.host);
+                    return;
+                }
+            }
+
+            try {
+                pool.execute(next);
+                return;
+            }
+            catch (RejectedExecutionException e) {
+                // pool encerrado: a vaga passa para o próximo da fila
+                next.reject();
+            }
+        }
+    }
+
+    private boolean dequeue(Task task) {
+        synchronized (lock) {
+            HostQueue hq = hosts.get(task.host);
+            if (hq != null && hq.pending.remove(task)) {
+                queued--;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Creates and configures the connection; nothing is sent yet.
+     */
+    HttpURLConnection prepare(String url, String method, Map<String, String> headers) throws IOException {
+        HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+        conn.setRequestMethod(method);
+        conn.setConnectTimeout(connectTimeout);
+        conn.setReadTimeout(readTimeout);
+        conn.setUseCaches(false);
+        conn.setRequestProperty("Accept-Encoding", "gzip");
+
+        if (headers != null) {
+            for (Map.Entry<String, String> h : headers.entrySet()) {
+                conn.setRequestProperty(h.getKey(), h.getValue());
+            }
+        }
+        return conn;
+    }
+
+    /**
+     * Sends the body (if any) and waits for the response headers.
+     */
+    static void send(HttpURLConnection conn, byte[] body) throws IOException {
+        if (body != null) {
+            conn.setDoOutput(true);
+            conn.setFixedLengthStreamingMode(body.length);
+            if (conn.getRequestProperty("Content-Type") == null)
+                conn.setRequestProperty("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8");
+
+            OutputStream os = conn.getOutputStream();
+            try {
+                os.write(body);
+            } finally {
+                os.close();
+            }
+        }
+
+        conn.getResponseCode();
+    }
+
+    /**
+     * Response body stream, inflated when gzip. Closing it after reading to the end releases
+     * the connection for reuse.
+     */
+    static InputStream bodyStream(HttpURLConnection conn) throws IOException {
+        InputStream in = conn.getResponseCode() >= 400 ? conn.getErrorStream() : conn.getInputStream();
+        if (in == null)
+            return null;
+        if ("gzip".equalsIgnoreCase(conn.getContentEncoding()))
+            return new GZIPInputStream(in);
+        return in;
+    }
+
+    static boolean isSuccess(int code) {
+        return (code >= 200 && code < 300) || code == HttpURLConnection.HTTP_NOT_MODIFIED;
+    }
+
+    private static byte[] readBody(HttpURLConnection conn) throws IOException {
+        InputStream in = bodyStream(conn);
+        if (in == null)
+            return new byte[0];
+
+        try {
+            int length = conn.getContentLength();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length > 0 ? length : 1024);
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            BYTES_IN.add(out.size());
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads whatever is left of the body so the connection can be reused.
+     */
+    private static void drain(InputStream in) throws IOException {
+        byte[] buffer = new byte[1024];
+        while (in.read(buffer) != -1) {
+            // descarta
+        }
+    }
+
+    private static boolean hasBody(String method) {
+        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method);
+    }
+
+    private static byte[] formBody(RequestParams params) {
+        if (params.getParametersBag() != null)
+            return params.getParametersBag().toUrlEncodedBytes();
+
+        StringBuilder sb = new StringBuilder();
+        UrlCompiler.appendQueries(sb, params.getParametersMap());
+        return sb.toString().getBytes(UTF_8);
+    }
+
+    static String hostOf(String url) {
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : start + 3;
+        int end = start;
+        while (end < url.length()) {
+            char c = url.charAt(end);
+            if (c == '/' || c == '?' || c == '#')
+                break;
+            end++;
+        }
+        return url.substring(start, end).toLowerCase(Locale.US);
+    }
+
+    private static final class HostQueue {
+        int running;
+        final ArrayDeque<Task> pending = new ArrayDeque<>();
+    }
+
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+    private static final int CANCELLED = 3;
+
+    /**
+     * What a task does once the response headers arrived, and how it reports failures.
+     */
+    private interface Exchange {
+        /**
+         * Consumes the response and returns the final delivery, which the task runs outside
+         * its failure handling: an exception thrown by the callback reaches the worker thread
+         * instead of being reported back as a request failure. Deliveries must be guarded by
+         * {@link Task#complete()} or {@link Task#isRunning()} so that cancelled tasks stay silent;
+         * callbacks invoked while the response is still being read throw {@link CallbackException}.
+         */
+        Runnable handle(Task task, HttpURLConnection conn) throws Exception;
+
+        void fail(Exception ex);
+    }
+
+    private static final class ResponseExchange implements Exchange {
+        final GenericCallback<Response> callback;
+
+        ResponseExchange(GenericCallback<Response> callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public Runnable handle(final Task task, HttpURLConnection conn) throws Exception {
+            final Response response = new Response(task.url, conn.getResponseCode(), conn.getHeaderFields(), readBody(conn));
+            return new Runnable() {
+                @Override
+                public void run() {
+                    if (!task.complete())
+                        return;
+
+                    if (isSuccess(response.getCode())) {
+                        callback.onSuccess(response);
+                    }
+                    else {
+                        HTTP_ERRORS.inc();
+                        callback.onError(new HttpException(response));
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void fail(Exception ex) {
+            callback.onError(ex);
+        }
+    }
+
+    /**
+     * Carries an exception thrown by the callback out of the response reading, so that it is
+     * not mistaken for a request failure.
+     */
+    private static final class CallbackException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        CallbackException(RuntimeException cause) {
+            super(cause);
+        }
+
+        RuntimeException unwrap() {
+            return (RuntimeException) getCause();
+        }
+    }
+
+    private final class Task implements Runnable, RequestCall {
+        /** {@link RequestParams#getName()}, also timed on its own when set */
+        final String name;
+        final String url;
+        final String host;
+        final String method;
+        final Map<String, String> headers;
+        final byte[] body;
+        final Exchange exchange;
+        final AtomicInteger state = new AtomicInteger(QUEUED);
+        volatile HttpURLConnection connection;
+
+        Task(String name, String url, String host, String method, Map<String, String> headers, byte[] body, Exchange exchange) {
+            this.name = name;
+            this.url = url;
+            this.host = host;
+            this.method = method;
+            this.headers = headers;
+            this.body = body;
+            this.exchange = exchange;
+        }
+
+        @Override
+        public void run() {
+            long start = 0;
+            try {
+                if (!state.compareAndSet(QUEUED, RUNNING))
+                    return;
+
+                start = Metrics.start();
+                REQUESTS.inc();
+                Runnable delivery = null;
+                try {
+                    HttpURLConnection conn = prepare(url, method, headers);
+                    connection = conn;
+                    if (!isRunning())
+                        return;
+                    send(conn, body);
+                    delivery = exchange.handle(this, conn);
+                } catch (CallbackException e) {
+                    // o callback falhou no meio da resposta: nada mais é entregue
+                    complete();
+                    throw e.unwrap();
+                } catch (Exception e) {
+                    FAILURES.inc();
+                    if (complete())
+                        exchange.fail(e);
+                } finally {
+                    connection = null;
+                }
+
+                if (delivery != null)
+                    delivery.run();
+            } finally {
+                finished(this);
+                if (start != 0) {
+                    REQUEST_TIME.recordSince(start);
+                    if (name != null)
+                        Metrics.histogram("net.request." + name + ".us").recordSince(start);
+                }
+            }
+        }
+
+        boolean isRunning() {
+            return state.get() == RUNNING;
+        }
+
+        /**
+         * @return <em>true</em> when the caller won the right to deliver the final result
+         */
+        boolean complete() {
+            return state.compareAndSet(RUNNING, DONE);
+        }
+
+        void reject() {
+            if (state.compareAndSet(QUEUED, DONE)) {
+                REJECTED.inc();
+                exchange.fail(new RejectedExecutionException("Request queue is full or executor is shut down: " + url));
+            }
+        }
+
+        @Override
+        public boolean cancel() {
+            if (state.compareAndSet(QUEUED, CANCELLED)) {
+                CANCELS.inc();
+                dequeue(this);
+                return true;
+            }
+            if (state.compareAndSet(RUNNING, CANCELLED)) {
+                CANCELS.inc();
+                HttpURLConnection conn = connection;
+                if (conn != null)
+                    conn.disconnect();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state.get() >= DONE;
+        }
+    }
+
+    private static final class WorkerFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "RequestExecutor-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -10,9 +10,12 @@ public class RequestParams
 {
     private String baseUrl;
     private String endPoint;
+    private String method = "GET";
     private String name;
     private Map<String, Object> parametersMap;
+    private ParamBag parametersBag;
     private Map<String, Object> queriesMap;
+    private ParamBag queriesBag;
     private String url;
 
     public String getBaseUrl()
@@ -25,6 +28,11 @@ public class RequestParams
         return this.endPoint;
     }
 
+    public String getMethod()
+    {
+        return this.method;
+    }
+
     public String getName()
     {
         return this.name;
@@ -35,11 +43,21 @@ public class RequestParams
         return this.parametersMap;
     }
 
+    public ParamBag getParametersBag()
+    {
+        return this.parametersBag;
+    }
+
     public Map<String, Object> getQueriesMap()
     {
         return this.queriesMap;
     }
 
+    public ParamBag getQueriesBag()
+    {
+        return this.queriesBag;
+    }
+
     public String getUrl()
     {
         return this.url;
@@ -55,6 +73,11 @@ public class RequestParams
         this.endPoint = paramString;
     }
 
+    public void setMethod(String paramString)
+    {
+        this.method = paramString;
+    }
+
     public void setName(String paramString)
     {
         this.name = paramString;
@@ -65,11 +88,28 @@ public class RequestParams
         this.parametersMap = paramMap;
     }
 
+    /**
+     * Unboxed alternative to {@link #setParametersMap(Map)}; takes precedence over the map
+     * for the request body and the url placeholders.
+     */
+    public void setParametersBag(ParamBag paramBag)
+    {
+        this.parametersBag = paramBag;
+    }
+
     public void setQueriesMap(Map<String, Object> paramMap)
     {
         this.queriesMap = paramMap;
     }
 
+    /**
+     * Variable queries appended after {@link #getQueriesMap()}.
+     */
+    public void setQueriesBag(ParamBag paramBag)
+    {
+        this.queriesBag = paramBag;
+    }
+
     public void setUrl(String paramString)
     {
         this.url = paramString;
@@ -0,0 +1,26 @@
+package com.worksit.app.commons.net;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Priority classes of the {@link PriorityRequestScheduler}, highest first.
+ */
+public enum RequestPriority {
+
+    /**
+     * The user is waiting on it (login, checkout, pull to refresh).
+     */
+    USER_BLOCKING,
+
+    /**
+     * Content for what is currently on screen.
+     */
+    VISIBLE,
+
+    /**
+     * Speculative work that may be dropped.
+     */
+    PREFETCH
+}
@@ -0,0 +1,16 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.GenericCallback;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Anything able to run a {@link RequestParams} and deliver its {@link Response}.
+ * Implemented by the executor and by the layers stacked on top of it (cache, coalescing...).
+ */
+public interface RequestRunner {
+
+    RequestCall execute(RequestParams params, GenericCallback<Response> callback);
+}
@@ -0,0 +1,91 @@
+package com.worksit.app.commons.net;
+
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Fully read HTTP response delivered by {@link RequestExecutor}.
+ */
+public class Response {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final String url;
+    private final int code;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    public Response(String url, int code, Map<String, List<String>> headers, byte[] body) {
+        this.url = url;
+        this.code = code;
+        this.headers = headers == null ? Collections.<String, List<String>>emptyMap() : headers;
+        this.body = body == null ? new byte[0] : body;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public boolean isSuccessful() {
+        return code >= 200 && code < 300;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * First value of the header, ignoring case.
+     * @return <em>null</em> when absent
+     */
+    public String getHeader(String name) {
+        for (Map.Entry<String, List<String>> e : headers.entrySet()) {
+            if (e.getKey() != null && e.getKey().equalsIgnoreCase(name)) {
+                List<String> values = e.getValue();
+                return values == null || values.isEmpty() ? null : values.get(0);
+            }
+        }
+        return null;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Body decoded with the charset of the "Content-Type" header (UTF-8 by default).
+     */
+    public String getBodyAsString() {
+        return new String(body, charsetOf(getHeader("Content-Type")));
+    }
+
+    static Charset charsetOf(String contentType) {
+        if (contentType != null) {
+            int i = contentType.toLowerCase(Locale.US).indexOf("charset=");
+            if (i >= 0) {
+                String name = contentType.substring(i + 8).trim();
+                int end = name.indexOf(';');
+                if (end >= 0)
+                    name = name.substring(0, end).trim();
+                name = name.replace("\"", "");
+                try {
+                    return Charset.forName(name);
+                } catch (Exception e) {
+                    // charset desconhecido, assume UTF-8
+                }
+            }
+        }
+        return UTF_8;
+    }
+}
@@ -0,0 +1,484 @@
+package com.worksit.app.commons.net;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Two tier response store used by {@link CachingRequestExecutor}.
+ *
+ * <ul>
+ *     <li>memory: LRU bounded by the total size of the bodies;</li>
+ *     <li>disk: one file per body plus an append-only binary journal ("index") holding key,
+ *     validators, store time and size of every entry. The journal is replayed once when the
+ *     cache is opened and compacted when it grows past twice the live entries.</li>
+ * </ul>
+ *
+ * Keys are the canonical {@link CacheKey} strings. Disk access happens inside {@link #get} and
+ * {@link #put}, so call them off the main thread.
+ */
+public class ResponseCache {
+
+    private static final int JOURNAL_MAGIC = 0x52434831; // "RCH1"
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final String JOURNAL = "index";
+
+    /**
+     * Cached response with its validators. The disk tier keeps its own instances with a
+     * <em>null</em> body; memory instances always hold the body.
+     */
+    public static final class Entry {
+        final String key;
+        final String etag;
+        final String lastModified;
+        final String contentType;
+        final String url;
+        final int size;
+        volatile long storedAt;
+        byte[] body;
+        String fileName;
+
+        Entry(String key, String url, String etag, String lastModified, String contentType, long storedAt, int size, byte[] body) {
+            this.key = key;
+            this.url = url;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.contentType = contentType;
+            this.storedAt = storedAt;
+            this.size = size;
+            this.body = body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public long getStoredAt() {
+            return storedAt;
+        }
+
+        Entry copy(byte[] body) {
+            Entry e = new Entry(key, url, etag, lastModified, contentType, storedAt, size, body);
+            e.fileName = fileName;
+            return e;
+        }
+
+        public boolean hasValidators() {
+            return etag != null || lastModified != null;
+        }
+
+        /**
+         * Rebuilds a 200 {@link Response} from the cached body and headers.
+         */
+        public Response toResponse() {
+            Map<String, List<String>> headers = new HashMap<>();
+            if (etag != null)
+                headers.put("ETag", Collections.singletonList(etag));
+            if (lastModified != null)
+                headers.put("Last-Modified", Collections.singletonList(lastModified));
+            if (contentType != null)
+                headers.put("Content-Type", Collections.singletonList(contentType));
+            return new Response(url, 200, headers, body);
+        }
+    }
+
+    private final File directory;
+    private final long maxMemoryBytes;
+    private final long maxDiskBytes;
+
+    private final LinkedHashMap<String, Entry> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Entry> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private long diskBytes;
+    private long fileSequence;
+    private int journalRecords;
+    private DataOutputStream journal;
+    private boolean opened;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesFromCache = new AtomicLong();
+    private final AtomicLong bytesStored = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param directory disk tier location, e.g. new File(context.getCacheDir(), "http");
+     *                  <em>null</em> keeps the cache in memory only
+     */
+    public ResponseCache(File directory, long maxMemoryBytes, long maxDiskBytes) {
+        this.directory = directory;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxDiskBytes = maxDiskBytes;
+    }
+
+    /**
+     * Memory or disk entry for the key, with its body loaded.
+     * @return <em>null</em> on miss
+     */
+    public synchronized Entry get(String key) {
+        Entry e = memory.get(key);
+        if (e != null) {
+            memoryHits.incrementAndGet();
+            bytesFromCache.addAndGet(e.size);
+            return e;
+        }
+
+        openDisk();
+        Entry d = disk.get(key);
+        if (d != null) {
+            try {
+                e = d.copy(readFile(new File(directory, d.fileName), d.size));
+                putMemory(e);
+                diskHits.incrementAndGet();
+                bytesFromCache.addAndGet(e.size);
+                return e;
+            } catch (IOException ex) {
+                removeDisk(d);
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Memory lookup only; never touches the disk, safe on the main thread.
+     */
+    public synchronized Entry peekMemory(String key) {
+        return memory.get(key);
+    }
+
+    void recordMemoryHit(Entry e) {
+        memoryHits.incrementAndGet();
+        bytesFromCache.addAndGet(e.size);
+    }
+
+    /**
+     * Stores a successful response, replacing the previous entry of the key.
+     */
+    public synchronized Entry put(String key, Response response) {
+        byte[] body = response.getBody();
+        Entry e = new Entry(key, response.getUrl(), response.getHeader("ETag"), response.getHeader("Last-Modified"),
+                response.getHeader("Content-Type"), System.currentTimeMillis(), body.length, body);
+
+        remove(key);
+        putMemory(e);
+        bytesStored.addAndGet(e.size);
+
+        openDisk();
+        if (journal != null && e.size <= maxDiskBytes) {
+            Entry d = e.copy(null);
+            d.fileName = Integer.toHexString(key.hashCode()) + "_" + Long.toHexString(fileSequence++);
+            try {
+                writeFile(new File(directory, d.fileName), body);
+                disk.put(key, d);
+                diskBytes += d.size;
+                writeRecord(OP_PUT, d);
+                trimDisk();
+            } catch (IOException ex) {
+                if (disk.remove(key) != null)
+                    diskBytes -= d.size;
+                new File(directory, d.fileName).delete();
+            }
+        }
+        return e;
+    }
+
+    /**
+     * Marks the entry as fresh again after a 304 revalidation.
+     */
+    public synchronized void touch(Entry e) {
+        long now = System.currentTimeMillis();
+        e.storedAt = now;
+
+        Entry d = disk.get(e.key);
+        if (d != null) {
+            d.storedAt = now;
+            try {
+                writeRecord(OP_PUT, d);
+            } catch (IOException ex) {
+                removeDisk(d);
+            }
+        }
+    }
+
+    public synchronized void remove(String key) {
+        Entry m = memory.remove(key);
+        if (m != null)
+            memoryBytes -= m.size;
+
+        openDisk();
+        Entry d = disk.get(key);
+        if (d != null)
+            removeDisk(d);
+    }
+
+    public synchronized void clear() {
+        memory.clear();
+        memoryBytes = 0;
+
+        openDisk();
+        for (Entry e : new ArrayList<>(disk.values())) {
+            removeDisk(e);
+        }
+    }
+
+    //region Métricas
+
+    public long getMemoryHitCount() {
+        return memoryHits.get();
+    }
+
+    public long getDiskHitCount() {
+        return diskHits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getBytesFromCache() {
+        return bytesFromCache.get();
+    }
+
+    public long getBytesStored() {
+        return bytesStored.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public synchronized long getMemorySize() {
+        return memoryBytes;
+    }
+
+    public synchronized long getDiskSize() {
+        return diskBytes;
+    }
+
+    //endregion
+
+    private void putMemory(Entry e) {
+        if (e.size > maxMemoryBytes)
+            return;
+
+        Entry old = memory.put(e.key, e);
+        if (old != null)
+            memoryBytes -= old.size;
+        memoryBytes += e.size;
+
+        Iterator<Entry> it = memory.values().iterator();
+        while (memoryBytes > maxMemoryBytes && it.hasNext()) {
+            Entry eldest = it.next();
+            it.remove();
+            memoryBytes -= eldest.size;
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void trimDisk() throws IOException {
+        Iterator<Entry> it = disk.values().iterator();
+        while (diskBytes > maxDiskBytes && it.hasNext()) {
+            Entry eldest = it.next();
+            it.remove();
+            diskBytes -= eldest.size;
+            new File(directory, eldest.fileName).delete();
+            writeRecord(OP_REMOVE, eldest);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void removeDisk(Entry e) {
+        disk.remove(e.key);
+        diskBytes -= e.size;
+        new File(directory, e.fileName).delete();
+        try {
+            writeRecord(OP_REMOVE, e);
+        } catch (IOException ex) {
+            closeJournal();
+        }
+    }
+
+    //region Journal
+
+    private void openDisk() {
+        if (opened || directory == null)
+            return;
+        opened = true;
+
+        if (!directory.isDirectory() && !directory.mkdirs())
+            return;
+
+        File index = new File(directory, JOURNAL);
+        try {
+            if (index.exists())
+                replay(index);
+            if (journalRecords > 2 * disk.size() + 64 || !index.exists())
+                compact();
+            else
+                journal = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(index, true)));
+        } catch (IOException e) {
+            disk.clear();
+            diskBytes = 0;
+            closeJournal();
+        }
+    }
+
+    private void replay(File index) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(index)));
+        try {
+            if (in.readInt() != JOURNAL_MAGIC)
+                return;
+
+            while (true) {
+                byte op;
+                try {
+                    op = in.readByte();
+                } catch (EOFException eof) {
+                    break;
+                }
+                String key = in.readUTF();
+                journalRecords++;
+
+                Entry old = disk.remove(key);
+                if (old != null)
+                    diskBytes -= old.size;
+
+                if (op == OP_PUT) {
+                    String fileName = in.readUTF();
+                    String url = nullable(in.readUTF());
+                    String etag = nullable(in.readUTF());
+                    String lastModified = nullable(in.readUTF());
+                    String contentType = nullable(in.readUTF());
+                    long storedAt = in.readLong();
+                    int size = in.readInt();
+
+                    Entry e = new Entry(key, url, etag, lastModified, contentType, storedAt, size, null);
+                    e.fileName = fileName;
+                    disk.put(key, e);
+                    diskBytes += size;
+                    fileSequence = Math.max(fileSequence, sequenceOf(fileName) + 1);
+                }
+            }
+        } catch (EOFException truncated) {
+            // último registro incompleto (processo encerrado durante a escrita)
+        } finally {
+            in.close();
+        }
+    }
+
+    private void compact() throws IOException {
+        closeJournal();
+
+        File index = new File(directory, JOURNAL);
+        File tmp = new File(directory, JOURNAL + ".tmp");
+        journal = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+        journal.writeInt(JOURNAL_MAGIC);
+        journalRecords = 0;
+        for (Entry e : disk.values()) {
+            writeRecord(OP_PUT, e);
+        }
+        journal.close();
+
+        if (!tmp.renameTo(index))
+            throw new IOException("Unable to replace " + index);
+        journal = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(index, true)));
+    }
+
+    private void writeRecord(byte op, Entry e) throws IOException {
+        if (journal == null)
+            return;
+
+        journal.writeByte(op);
+        journal.writeUTF(e.key);
+        if (op == OP_PUT) {
+            journal.writeUTF(e.fileName);
+            journal.writeUTF(e.url == null ? "" : e.url);
+            journal.writeUTF(e.etag == null ? "" : e.etag);
+            journal.writeUTF(e.lastModified == null ? "" : e.lastModified);
+            journal.writeUTF(e.contentType == null ? "" : e.contentType);
+            journal.writeLong(e.storedAt);
+            journal.writeInt(e.size);
+        }
+        journal.flush();
+
+        if (++journalRecords > 2 * disk.size() + 64)
+            compact();
+    }
+
+    private void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                // ignorado
+            }
+            journal = null;
+        }
+    }
+
+    private static long sequenceOf(String fileName) {
+        try {
+            return Long.parseLong(fileName.substring(fileName.indexOf('_') + 1), 16);
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static String nullable(String s) {
+        return s.isEmpty() ? null : s;
+    }
+
+    //endregion
+
+    private static byte[] readFile(File file, int size) throws IOException {
+        byte[] data = new byte[size];
+        FileInputStream in = new FileInputStream(file);
+        try {
+            int offset = 0;
+            while (offset < size) {
+                int read = in.read(data, offset, size - offset);
+                if (read < 0)
+                    throw new EOFException(file.getName());
+                offset += read;
+            }
+        } finally {
+            in.close();
+        }
+        return data;
+    }
+
+    private static void writeFile(File file, byte[] data) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(data);
+        } finally {
+            out.close();
+        }
+    }
+}
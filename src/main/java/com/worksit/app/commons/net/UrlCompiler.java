@@ -0,0 +1,236 @@
+package com.worksit.app.commons.net;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Url template compiled once from a {@link RequestParams}.
+ *
+ * The base url / end point (e.g. "https://api.host/v1/" + "users/{id}/orders") are split into
+ * pre-encoded literal segments and "{placeholder}" slots, and the constant queries of the
+ * template are encoded into a single part. {@link #build} then only writes the variable
+ * parts into a reused buffer, so a polling end point costs a single String per request.
+ * A "#fragment" of the template is kept literal and always written last, after the queries.
+ *
+ * Instances are thread safe; concurrent {@link #build} calls are serialized on the buffer.
+ */
+public final class UrlCompiler {
+
+    private final String[] segments;
+    private final String[] placeholders;
+    private final String constantQuery;
+    private final boolean templateHasQuery;
+    /** "#fragment" encoded, or empty */
+    private final String fragment;
+    private final StringBuilder buffer;
+
+    private UrlCompiler(String[] segments, String[] placeholders, String constantQuery, boolean templateHasQuery, String fragment) {
+        this.segments = segments;
+        this.placeholders = placeholders;
+        this.constantQuery = constantQuery;
+        this.templateHasQuery = templateHasQuery;
+        this.fragment = fragment;
+
+        int length = constantQuery.length() + fragment.length() + 16 * (placeholders.length + 1);
+        for (String s : segments) {
+            length += s.length();
+        }
+        this.buffer = new StringBuilder(length);
+    }
+
+    /**
+     * Compiles {@link RequestParams#getUrl()} when present, or else
+     * {@link RequestParams#getBaseUrl()} + {@link RequestParams#getEndPoint()}.
+     * {@link RequestParams#getQueriesMap()} is treated as the constant part of the query string.
+     */
+    public static UrlCompiler compile(RequestParams params) {
+        return compile(templateOf(params), params.getQueriesMap());
+    }
+
+    /**
+     * @param template url with optional "{placeholder}" slots
+     * @param constantQueries queries sent on every request, may be <em>null</em>
+     */
+    public static UrlCompiler compile(String template, Map<String, ?> constantQueries) {
+        if (template == null || template.isEmpty())
+            throw new IllegalArgumentException("Url template must not be empty");
+
+        // o fragmento vai depois das queries; placeholders nele não são resolvidos
+        String fragment = "";
+        int hash = template.indexOf('#');
+        if (hash >= 0) {
+            StringBuilder encoded = new StringBuilder(template.length() - hash);
+            UrlEncoding.appendLiteral(encoded, template.substring(hash));
+            fragment = encoded.toString();
+            template = template.substring(0, hash);
+        }
+
+        List<String> segments = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        StringBuilder sb = new StringBuilder(template.length() + 16);
+
+        int start = 0;
+        int open;
+        while ((open = template.indexOf('{', start)) >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0)
+                throw new IllegalArgumentException("Unclosed placeholder in " + template);
+
+            UrlEncoding.appendLiteral(sb, template.substring(start, open));
+            segments.add(sb.toString());
+            sb.setLength(0);
+            names.add(template.substring(open + 1, close));
+            start = close + 1;
+        }
+        UrlEncoding.appendLiteral(sb, template.substring(start));
+        segments.add(sb.toString());
+
+        sb.setLength(0);
+        appendQueries(sb, constantQueries);
+
+        return new UrlCompiler(segments.toArray(new String[segments.size()]),
+                names.toArray(new String[names.size()]),
+                sb.toString(),
+                template.indexOf('?') >= 0,
+                fragment);
+    }
+
+    /**
+     * One-off url for a {@link RequestParams}: placeholders are resolved from
+     * {@link RequestParams#getParametersBag()} or else {@link RequestParams#getParametersMap()},
+     * and {@link RequestParams#getQueriesBag()} is appended as variable queries.
+     * Prefer keeping a compiled instance for end points hit repeatedly.
+     */
+    public static String toUrl(RequestParams params) {
+        UrlCompiler compiler = compile(params);
+        if (params.getParametersBag() != null)
+            return compiler.build(params.getParametersBag(), params.getQueriesBag());
+        return compiler.build(params.getParametersMap(), params.getQueriesBag());
+    }
+
+    /**
+     * Names of the "{placeholder}" slots, in template order.
+     */
+    public String[] getPlaceholders() {
+        return placeholders.clone();
+    }
+
+    public String build(Map<String, ?> pathValues) {
+        return build(pathValues, (Map<String, ?>) null);
+    }
+
+    /**
+     * @param pathValues values for the placeholders
+     * @param queries variable queries appended after the constant ones, may be <em>null</em>
+     * @exception IllegalArgumentException when a placeholder has no value
+     */
+    public synchronized String build(Map<String, ?> pathValues, Map<String, ?> queries) {
+        StringBuilder sb = begin(pathValues, null);
+        if (queries != null && !queries.isEmpty()) {
+            int mark = sb.length();
+            separator(sb);
+            appendQueries(sb, queries);
+            if (sb.length() == mark + 1)
+                sb.setLength(mark);
+        }
+        return sb.append(fragment).toString();
+    }
+
+    /**
+     * Same as {@link #build(Map, Map)} with the variable queries held in a {@link ParamBag}.
+     */
+    public synchronized String build(Map<String, ?> pathValues, ParamBag queries) {
+        StringBuilder sb = begin(pathValues, null);
+        appendBag(sb, queries);
+        return sb.append(fragment).toString();
+    }
+
+    /**
+     * Allocation-light variant: placeholders and variable queries come from {@link ParamBag}s,
+     * whose values are written unboxed into the buffer.
+     */
+    public synchronized String build(ParamBag pathValues, ParamBag queries) {
+        StringBuilder sb = begin(null, pathValues);
+        appendBag(sb, queries);
+        return sb.append(fragment).toString();
+    }
+
+    private void appendBag(StringBuilder sb, ParamBag queries) {
+        if (queries != null && queries.size() > 0) {
+            separator(sb);
+            queries.writeUrlEncoded(sb);
+        }
+    }
+
+    private StringBuilder begin(Map<String, ?> pathValues, ParamBag pathBag) {
+        StringBuilder sb = buffer;
+        sb.setLength(0);
+
+        for (int i = 0; i < placeholders.length; i++) {
+            sb.append(segments[i]);
+            boolean found;
+            if (pathBag != null) {
+                found = pathBag.appendValue(sb, placeholders[i]);
+            }
+            else {
+                Object value = pathValues == null ? null : pathValues.get(placeholders[i]);
+                found = value != null;
+                UrlEncoding.appendValue(sb, value);
+            }
+            if (!found)
+                throw new IllegalArgumentException("Missing value for placeholder {" + placeholders[i] + "}");
+        }
+        sb.append(segments[placeholders.length]);
+
+        if (!constantQuery.isEmpty()) {
+            sb.append(templateHasQuery ? '&' : '?');
+            sb.append(constantQuery);
+        }
+        return sb;
+    }
+
+    private void separator(StringBuilder sb) {
+        sb.append(templateHasQuery || !constantQuery.isEmpty() ? '&' : '?');
+    }
+
+    static String templateOf(RequestParams params) {
+        String url = params.getUrl();
+        if (url != null && !url.isEmpty())
+            return url;
+
+        String base = params.getBaseUrl() == null ? "" : params.getBaseUrl();
+        String endPoint = params.getEndPoint() == null ? "" : params.getEndPoint();
+        if (base.isEmpty() || endPoint.isEmpty())
+            return base + endPoint;
+
+        boolean baseSlash = base.charAt(base.length() - 1) == '/';
+        boolean endPointSlash = endPoint.charAt(0) == '/';
+        if (baseSlash && endPointSlash)
+            return base + endPoint.substring(1);
+        if (!baseSlash && !endPointSlash)
+            return base + '/' + endPoint;
+        return base + endPoint;
+    }
+
+    static void appendQueries(StringBuilder sb, Map<String, ?> queries) {
+        if (queries == null)
+            return;
+
+        boolean first = true;
+        for (Map.Entry<String, ?> e : queries.entrySet()) {
+            if (e.getValue() == null)
+                continue;
+            if (!first)
+                sb.append('&');
+            UrlEncoding.appendEncoded(sb, e.getKey());
+            sb.append('=');
+            UrlEncoding.appendValue(sb, e.getValue());
+            first = false;
+        }
+    }
+}
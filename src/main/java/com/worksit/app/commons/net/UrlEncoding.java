@@ -0,0 +1,123 @@
+package com.worksit.app.commons.net;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Percent-encoding (RFC 3986) written straight into a caller supplied {@link StringBuilder},
+ * without the intermediate Strings and byte arrays created by {@link java.net.URLEncoder}.
+ */
+final class UrlEncoding {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private UrlEncoding() {
+    }
+
+    /**
+     * Appends a query/path value. Integral numbers and booleans are written without encoding
+     * (and without boxing to String), everything else goes through {@link #appendEncoded}.
+     */
+    static void appendValue(StringBuilder sb, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            sb.append(((Number) value).longValue());
+        }
+        else if (value instanceof Boolean) {
+            sb.append(((Boolean) value).booleanValue());
+        }
+        else if (value instanceof CharSequence) {
+            appendEncoded(sb, (CharSequence) value);
+        }
+        else {
+            appendEncoded(sb, String.valueOf(value));
+        }
+    }
+
+    /**
+     * Encodes every character outside the unreserved set (ALPHA / DIGIT / "-" / "." / "_" / "~").
+     */
+    static void appendEncoded(StringBuilder sb, CharSequence s) {
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (isUnreserved(c)) {
+                sb.append(c);
+            }
+            else {
+                i = appendUtf8(sb, s, i);
+            }
+        }
+    }
+
+    /**
+     * Encodes only characters that can never appear literally in an URL (spaces, controls,
+     * non-ASCII...), keeping the reserved delimiters of an already well formed base url or
+     * end point (":/?#[]@!$&'()*+,;=" and existing "%XX" escapes).
+     */
+    static void appendLiteral(StringBuilder sb, CharSequence s) {
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (isUnreserved(c) || isReserved(c) || c == '%') {
+                sb.append(c);
+            }
+            else {
+                i = appendUtf8(sb, s, i);
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static boolean isReserved(char c) {
+        switch (c) {
+            case ':': case '/': case '?': case '#': case '[': case ']': case '@':
+            case '!': case '$': case '&': case '\'': case '(': case ')':
+            case '*': case '+': case ',': case ';': case '=':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Writes the UTF-8 bytes of the code point starting at {@code i} as "%XX" escapes.
+     * @return index of the last char consumed (surrogate pairs consume two)
+     */
+    private static int appendUtf8(StringBuilder sb, CharSequence s, int i) {
+        int cp = s.charAt(i);
+        if (Character.isHighSurrogate((char) cp) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+            cp = Character.toCodePoint((char) cp, s.charAt(i + 1));
+            i++;
+        }
+
+        if (cp < 0x80) {
+            appendByte(sb, cp);
+        }
+        else if (cp < 0x800) {
+            appendByte(sb, 0xC0 | (cp >> 6));
+            appendByte(sb, 0x80 | (cp & 0x3F));
+        }
+        else if (cp < 0x10000) {
+            appendByte(sb, 0xE0 | (cp >> 12));
+            appendByte(sb, 0x80 | ((cp >> 6) & 0x3F));
+            appendByte(sb, 0x80 | (cp & 0x3F));
+        }
+        else {
+            appendByte(sb, 0xF0 | (cp >> 18));
+            appendByte(sb, 0x80 | ((cp >> 12) & 0x3F));
+            appendByte(sb, 0x80 | ((cp >> 6) & 0x3F));
+            appendByte(sb, 0x80 | (cp & 0x3F));
+        }
+        return i;
+    }
+
+    private static void appendByte(StringBuilder sb, int b) {
+        sb.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+    }
+}
@@ -0,0 +1,67 @@
+package com.worksit.app.commons.resources;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * {@link CharSequence} view of single-byte text (ISO-8859-1, or ASCII-only UTF-8) backed by a
+ * {@link ByteBuffer}; nothing is decoded nor copied until {@link #toString()}.
+ */
+final class ByteCharSequence implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    ByteCharSequence(ByteBuffer buffer) {
+        this(buffer, buffer.position(), buffer.remaining());
+    }
+
+    private ByteCharSequence(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end)
+            throw new IndexOutOfBoundsException("Range: " + start + ".." + end + ", length: " + length);
+        return new ByteCharSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (buffer.get(offset + i) & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return <em>true</em> when every byte of the buffer is 7-bit ASCII
+     */
+    static boolean isAscii(ByteBuffer buffer) {
+        for (int i = buffer.position(), end = buffer.limit(); i < end; i++) {
+            if (buffer.get(i) < 0)
+                return false;
+        }
+        return true;
+    }
+}
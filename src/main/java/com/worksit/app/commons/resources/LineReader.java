@@ -0,0 +1,161 @@
+package com.worksit.app.commons.resources;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Reads a {@link RawResource} one record at a time, without loading the whole text.
+ *
+ * Records end at a single-byte delimiter ('\n' for lines, where a trailing '\r' is dropped
+ * too) and each one is decoded on its own, so the charset must encode the delimiter as that
+ * same single byte (UTF-8, ISO-8859-1, ASCII and the like).
+ */
+public final class LineReader implements Closeable {
+
+    private static final int CHUNK = 8192;
+
+    private final Charset charset;
+    private final byte delimiter;
+
+    // origem mapeada
+    private final ByteBuffer buffer;
+
+    // origem em stream
+    private final InputStream in;
+    private byte[] chunk;
+    private int pos;
+    private int limit;
+    private boolean eof;
+
+    private byte[] record = new byte[256];
+    private long recordNumber;
+
+    LineReader(ByteBuffer buffer, char delimiter, Charset charset) {
+        this(buffer, null, delimiter, charset);
+    }
+
+    LineReader(InputStream in, char delimiter, Charset charset) {
+        this(null, in, delimiter, charset);
+    }
+
+    private LineReader(ByteBuffer buffer, InputStream in, char delimiter, Charset charset) {
+        byte[] encoded = String.valueOf(delimiter).getBytes(charset);
+        if (encoded.length != 1)
+            throw new IllegalArgumentException("Delimiter must be a single byte in " + charset.name());
+
+        this.buffer = buffer;
+        this.in = in;
+        this.delimiter = encoded[0];
+        this.charset = charset;
+        if (in != null)
+            chunk = new byte[CHUNK];
+    }
+
+    /**
+     * @return the next record, or <em>null</em> at the end of the resource
+     */
+    public String readLine() throws IOException {
+        String line = buffer != null ? nextFromBuffer() : nextFromStream();
+        if (line != null)
+            recordNumber++;
+        return line;
+    }
+
+    /**
+     * Records read so far.
+     */
+    public long getLineNumber() {
+        return recordNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null)
+            in.close();
+    }
+
+    private String nextFromBuffer() {
+        int start = buffer.position();
+        int end = buffer.limit();
+        if (start == end)
+            return null;
+
+        int i = start;
+        while (i < end && buffer.get(i) != delimiter) {
+            i++;
+        }
+        buffer.position(i < end ? i + 1 : i);
+        return decode(start, i);
+    }
+
+    private String decode(int start, int end) {
+        if (delimiter == '\n' && end > start && buffer.get(end - 1) == '\r')
+            end--;
+
+        int length = end - start;
+        if (buffer.hasArray())
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, charset);
+
+        ensureRecordCapacity(length);
+        for (int k = 0; k < length; k++) {
+            record[k] = buffer.get(start + k);
+        }
+        return new String(record, 0, length, charset);
+    }
+
+    private String nextFromStream() throws IOException {
+        int length = 0;
+        while (true) {
+            if (pos == limit) {
+                if (eof || !fill())
+                    return length == 0 ? null : decodeRecord(length);
+            }
+
+            int start = pos;
+            while (pos < limit && chunk[pos] != delimiter) {
+                pos++;
+            }
+
+            int count = pos - start;
+            ensureRecordCapacity(length + count);
+            System.arraycopy(chunk, start, record, length, count);
+            length += count;
+
+            if (pos < limit) {
+                pos++;
+                return decodeRecord(length);
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int n = in.read(chunk, 0, chunk.length);
+        if (n <= 0) {
+            eof = true;
+            pos = limit = 0;
+            return false;
+        }
+        pos = 0;
+        limit = n;
+        return true;
+    }
+
+    private String decodeRecord(int length) {
+        if (delimiter == '\n' && length > 0 && record[length - 1] == '\r')
+            length--;
+        return new String(record, 0, length, charset);
+    }
+
+    private void ensureRecordCapacity(int capacity) {
+        if (capacity > record.length)
+            record = Arrays.copyOf(record, Math.max(capacity, record.length * 2));
+    }
+}
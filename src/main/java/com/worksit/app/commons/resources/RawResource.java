@@ -0,0 +1,197 @@
+package com.worksit.app.commons.resources;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.Resources;
+
+import com.worksit.app.commons.metrics.Counter;
+import com.worksit.app.commons.metrics.Metrics;
+
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Contents of a raw resource.
+ *
+ * Resources stored uncompressed in the APK are memory-mapped through
+ * {@link Resources#openRawResourceFd(int)}: {@link #bytes()} and {@link #chars(Charset)} are
+ * views of the mapping and nothing is copied to the heap. Compressed resources fall back to the
+ * resource stream, which {@link #lines(Charset)} reads in chunks and {@link #bytes()} reads once
+ * into memory.
+ *
+ * Not thread safe; close it when done.
+ */
+public final class RawResource implements Closeable {
+
+    public static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+    private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+    private static final Counter OPENS = Metrics.counter("resources.opens");
+    private static final Counter MAPPED = Metrics.counter("resources.mapped");
+
+    private final ByteBuffer mapped;
+    private InputStream stream;
+    private ByteBuffer loaded;
+    private boolean consumed;
+
+    RawResource(ByteBuffer mapped) {
+        this.mapped = mapped;
+    }
+
+    RawResource(InputStream stream) {
+        this.mapped = null;
+        this.stream = stream;
+    }
+
+    /**
+     * Maps the resource when it is stored uncompressed, otherwise opens its stream.
+     * @throws Resources.NotFoundException when the resource does not exist
+     */
+    public static RawResource open(Resources resources, int id) throws IOException {
+        ByteBuffer mapped = map(resources, id);
+        OPENS.inc();
+        if (mapped != null) {
+            MAPPED.inc();
+            return new RawResource(mapped);
+        }
+        return new RawResource(resources.openRawResource(id));
+    }
+
+    private static ByteBuffer map(Resources resources, int id) {
+        AssetFileDescriptor afd;
+        try {
+            afd = resources.openRawResourceFd(id);
+        }
+        catch (Resources.NotFoundException e) {
+            // recurso comprimido (ou inexistente, o que openRawResource vai reportar)
+            return null;
+        }
+        if (afd == null)
+            return null;
+
+        try {
+            if (afd.getLength() == AssetFileDescriptor.UNKNOWN_LENGTH)
+                return null;
+
+            FileInputStream in = afd.createInputStream();
+            try {
+                // o mapeamento continua válido depois que o descritor é fechado
+                return in.getChannel().map(FileChannel.MapMode.READ_ONLY, afd.getStartOffset(), afd.getLength());
+            }
+            finally {
+                in.close();
+            }
+        }
+        catch (IOException e) {
+            return null;
+        }
+        finally {
+            try {
+                afd.close();
+            }
+            catch (IOException ignored) {
+            }
+        }
+    }
+
+    public boolean isMapped() {
+        return mapped != null;
+    }
+
+    /**
+     * Read-only view of the whole resource. Stream-backed resources are read into memory on the
+     * first call.
+     */
+    public ByteBuffer bytes() throws IOException {
+        return source().asReadOnlyBuffer();
+    }
+
+    /**
+     * Text of the resource as a {@link CharSequence}. ISO-8859-1 text, and ASCII-only UTF-8 /
+     * ASCII text, is a view of {@link #bytes()}; other text is decoded once.
+     */
+    public CharSequence chars(Charset charset) throws IOException {
+        ByteBuffer bytes = bytes();
+        if (charset.equals(ISO_8859_1))
+            return new ByteCharSequence(bytes);
+        if ((charset.equals(UTF_8) || charset.equals(US_ASCII)) && ByteCharSequence.isAscii(bytes))
+            return new ByteCharSequence(bytes);
+        return charset.decode(bytes);
+    }
+
+    public String text(Charset charset) throws IOException {
+        ByteBuffer source = source();
+        if (source.hasArray())
+            return new String(source.array(), source.arrayOffset(), source.limit(), charset);
+        return charset.decode(source.duplicate()).toString();
+    }
+
+    /**
+     * Reads the resource line by line; '\r\n' and '\n' both end a line.
+     */
+    public LineReader lines(Charset charset) throws IOException {
+        return records('\n', charset);
+    }
+
+    /**
+     * Reads the resource one {@code delimiter}-terminated record at a time.
+     */
+    public LineReader records(char delimiter, Charset charset) throws IOException {
+        if (mapped != null || loaded != null)
+            return new LineReader(source().duplicate(), delimiter, charset);
+        return new LineReader(takeStream(), delimiter, charset);
+    }
+
+    @Override
+    public void close() throws IOException {
+        loaded = null;
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    private ByteBuffer source() throws IOException {
+        if (mapped != null)
+            return mapped;
+        if (loaded == null)
+            loaded = readFully(takeStream());
+        return loaded;
+    }
+
+    private InputStream takeStream() {
+        if (consumed)
+            throw new IllegalStateException("The resource stream was already consumed");
+        consumed = true;
+        InputStream in = stream;
+        stream = null;
+        return in;
+    }
+
+    private static ByteBuffer readFully(InputStream in) throws IOException {
+        try {
+            byte[] data = new byte[Math.max(in.available(), 8192)];
+            int size = 0;
+            int n;
+            while ((n = in.read(data, size, data.length - size)) != -1) {
+                size += n;
+                if (size == data.length)
+                    data = Arrays.copyOf(data, data.length * 2);
+            }
+            return ByteBuffer.wrap(data, 0, size);
+        }
+        finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.worksit.app.commons.resources;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Decoded text of raw resources kept in memory, LRU bounded by the decoded size (two bytes per
+ * char).
+ *
+ * Concurrent {@link #get(int)} calls for an id that is not cached share a single load;
+ * {@link #prefetch(int...)} loads ids in the background so that the screen that needs them
+ * later finds them decoded. Register the cache with
+ * {@link Context#registerComponentCallbacks} to have it shrink on memory pressure.
+ */
+public class RawResourceCache implements ComponentCallbacks2 {
+
+    interface Loader {
+        String load(int id) throws IOException;
+    }
+
+    private final Loader loader;
+    private final Executor executor;
+    private final long maxBytes;
+
+    private final LinkedHashMap<Integer, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Integer, FutureTask<String>> loading = new HashMap<>();
+    private long size;
+
+    private long hits;
+    private long misses;
+    private long sharedLoads;
+    private long loads;
+    private long loadFailures;
+    private long prefetches;
+    private long evictions;
+
+    public RawResourceCache(Context context, long maxBytes) {
+        this(context, maxBytes, Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "RawResourceCache-prefetch");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+        }));
+    }
+
+    /**
+     * @param executor runs {@link #prefetch(int...)} loads
+     */
+    public RawResourceCache(Context context, long maxBytes, Executor executor) {
+        this(new ResourcesLoader(context.getApplicationContext()), maxBytes, executor);
+    }
+
+    RawResourceCache(Loader loader, long maxBytes, Executor executor) {
+        if (maxBytes <= 0)
+            throw new IllegalArgumentException("Invalid cache size: " + maxBytes);
+
+        this.loader = loader;
+        this.maxBytes = maxBytes;
+        this.executor = executor;
+    }
+
+    /**
+     * Text of the resource (UTF-8), loaded on the calling thread on a miss unless another
+     * thread is already loading it. A pending {@link #prefetch} of the id is taken over instead
+     * of waited for.
+     */
+    public String get(int id) throws IOException {
+        FutureTask<String> task;
+        synchronized (this) {
+            String text = entries.get(id);
+            if (text != null) {
+                hits++;
+                return text;
+            }
+
+            misses++;
+            task = loading.get(id);
+            if (task == null)
+                task = newLoad(id);
+            else
+                sharedLoads++;
+        }
+
+        // um prefetch ainda na fila do executor é executado aqui mesmo; run() não faz nada
+        // quando a carga já começou em outra thread ou terminou
+        task.run();
+        return await(task);
+    }
+
+    /**
+     * @return the cached text, or <em>null</em> without loading it
+     */
+    public synchronized String getIfPresent(int id) {
+        String text = entries.get(id);
+        if (text != null)
+            hits++;
+        return text;
+    }
+
+    /**
+     * Loads the ids that are neither cached nor being loaded, in the background.
+     */
+    public void prefetch(int... ids) {
+        for (int id : ids) {
+            FutureTask<String> task;
+            synchronized (this) {
+                if (entries.containsKey(id) || loading.containsKey(id))
+                    continue;
+                task = newLoad(id);
+                prefetches++;
+            }
+            executor.execute(task);
+        }
+    }
+
+    public synchronized void remove(int id) {
+        String text = entries.remove(id);
+        if (text != null)
+            size -= sizeOf(text);
+    }
+
+    public void clear() {
+        trimToSize(0);
+    }
+
+    /**
+     * Evicts the least recently used entries until the cache holds at most {@code bytes}.
+     */
+    public synchronized void trimToSize(long bytes) {
+        Iterator<Map.Entry<Integer, String>> it = entries.entrySet().iterator();
+        while (size > bytes && it.hasNext()) {
+            size -= sizeOf(it.next().getValue());
+            it.remove();
+            evictions++;
+        }
+    }
+
+    //region ComponentCallbacks2
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_COMPLETE)
+            clear();
+        else if (level >= TRIM_MEMORY_MODERATE || level == TRIM_MEMORY_RUNNING_CRITICAL)
+            trimToSize(maxBytes / 4);
+        else if (level >= TRIM_MEMORY_UI_HIDDEN || level == TRIM_MEMORY_RUNNING_LOW)
+            trimToSize(maxBytes / 2);
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+    }
+
+    //endregion
+
+    //region Estatísticas
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Misses served by a load already started by another thread.
+     */
+    public synchronized long getSharedLoadCount() {
+        return sharedLoads;
+    }
+
+    public synchronized long getLoadCount() {
+        return loads;
+    }
+
+    public synchronized long getLoadFailureCount() {
+        return loadFailures;
+    }
+
+    public synchronized long getPrefetchCount() {
+        return prefetches;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public long getMaxSize() {
+        return maxBytes;
+    }
+
+    //endregion
+
+    /**
+     * Must be called holding the lock.
+     */
+    private FutureTask<String> newLoad(final int id) {
+        FutureTask<String> task = new FutureTask<>(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return load(id);
+            }
+        });
+        loading.put(id, task);
+        return task;
+    }
+
+    private String load(int id) throws IOException {
+        String text = null;
+        try {
+            text = loader.load(id);
+            return text;
+        }
+        finally {
+            synchronized (this) {
+                loading.remove(id);
+                if (text == null) {
+                    loadFailures++;
+                }
+                else {
+                    loads++;
+                    store(id, text);
+                }
+            }
+        }
+    }
+
+    private void store(int id, String text) {
+        long bytes = sizeOf(text);
+        if (bytes > maxBytes)
+            return;
+
+        String previous = entries.put(id, text);
+        if (previous != null)
+            size -= sizeOf(previous);
+        size += bytes;
+        trimToSize(maxBytes);
+    }
+
+    private static String await(FutureTask<String> task) throws IOException {
+        try {
+            return task.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading a raw resource");
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    private static long sizeOf(String text) {
+        return 2L * text.length();
+    }
+
+    private static final class ResourcesLoader implements Loader {
+        private final Context context;
+        private final RawResources resources = new RawResources();
+
+        ResourcesLoader(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public String load(int id) throws IOException {
+            return resources.loadFile(context, id);
+        }
+    }
+}
@@ -2,10 +2,12 @@ package com.worksit.app.commons.resources;
 
 import android.content.Context;
 
-import java.io.BufferedReader;
+import com.worksit.app.commons.metrics.Counter;
+import com.worksit.app.commons.metrics.Histogram;
+import com.worksit.app.commons.metrics.Metrics;
+
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 
 /**
  * Created by SKYNET-DEV01 on 28/09/2017.
@@ -13,21 +15,37 @@ import java.io.InputStreamReader;
 
 public class RawResources {
 
-    public String loadFile(Context ctx, int resource) throws IOException {
-        InputStream inputStream = ctx.getResources().openRawResource(resource);
+    private static final Counter LOADS = Metrics.counter("resources.loads");
+    private static final Counter BYTES = Metrics.counter("resources.bytes");
+    private static final Histogram LOAD_TIME = Metrics.histogram("resources.load.us");
 
-        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-        StringBuilder sb = new StringBuilder();
-        String readLine = null;
+    /**
+     * Whole text of the resource, read as UTF-8 with its line breaks.
+     */
+    public String loadFile(Context ctx, int resource) throws IOException {
+        return loadFile(ctx, resource, RawResource.UTF_8);
+    }
 
+    public String loadFile(Context ctx, int resource, Charset charset) throws IOException {
+        long start = Metrics.start();
+        RawResource raw = open(ctx, resource);
         try {
-            while ((readLine = reader.readLine()) != null) {
-                sb.append(readLine);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+            String text = raw.text(charset);
+            LOADS.inc();
+            if (start != 0)
+                BYTES.add(raw.bytes().remaining());
+            LOAD_TIME.recordSince(start);
+            return text;
+        }
+        finally {
+            raw.close();
         }
+    }
 
-        return sb.toString();
+    /**
+     * Opens the resource for mapped / streamed access, see {@link RawResource}.
+     */
+    public RawResource open(Context ctx, int resource) throws IOException {
+        return RawResource.open(ctx.getResources(), resource);
     }
 }
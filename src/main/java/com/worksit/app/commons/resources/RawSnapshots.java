@@ -0,0 +1,352 @@
+package com.worksit.app.commons.resources;
+
+import android.content.Context;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Binary snapshots of parsed raw resources, kept in the files directory.
+ *
+ * The first {@link #load(int, Codec)} of a resource parses it with the {@link Codec} and writes
+ * the codec's binary form to a snapshot keyed by the resource id; later loads, in this or the
+ * next launches, map the snapshot and hand it to {@link Codec#read(ByteBuffer)}, which may
+ * decode lazily from the mapped buffer. The resource text is not read again.
+ *
+ * Snapshots are stale when the APK changes (version code or install time), when the codec
+ * version changes or when the file is damaged: stale snapshots are deleted and rebuilt from the
+ * resource. After an APK update the whole directory is discarded on the first load.
+ */
+public class RawSnapshots {
+
+    /**
+     * Parses a resource and converts it to and from its snapshot.
+     */
+    public interface Codec<T> {
+        /**
+         * Version of the binary form; changing it discards the existing snapshots.
+         */
+        int version();
+
+        /**
+         * Cold path: parses the resource text.
+         */
+        T parse(RawResource resource) throws IOException;
+
+        void write(T value, DataOutputStream out) throws IOException;
+
+        /**
+         * @param snapshot read-only, positioned at what {@link #write} produced; it stays valid
+         *                 after the call, so values may be decoded on demand
+         */
+        T read(ByteBuffer snapshot) throws IOException;
+    }
+
+    interface Source {
+        RawResource open(int id) throws IOException;
+    }
+
+    static final int MAGIC = 0x52534e50; // "RSNP"
+    static final int FORMAT_VERSION = 1;
+    /** magic, format, id, version code, install time, codec version, payload length */
+    static final int HEADER_SIZE = 4 + 4 + 4 + 4 + 8 + 4 + 4;
+
+    private static final String VERSION_FILE = "apk.version";
+
+    private final Source source;
+    private final File dir;
+    private final int versionCode;
+    private final long installTime;
+    private boolean checked;
+
+    private long snapshotLoads;
+    private long coldParses;
+    private long staleSnapshots;
+    private long writeFailures;
+
+    public RawSnapshots(Context context) {
+        this(context.getApplicationContext(), packageInfo(context));
+    }
+
+    private RawSnapshots(Context context, PackageInfo info) {
+        this(new ResourcesSource(context), new File(context.getFilesDir(), "raw-snapshots"),
+                info.versionCode, info.lastUpdateTime);
+    }
+
+    RawSnapshots(Source source, File dir, int versionCode, long installTime) {
+        this.source = source;
+        this.dir = dir;
+        this.versionCode = versionCode;
+        this.installTime = installTime;
+    }
+
+    /**
+     * The resource decoded from its snapshot, parsed (and the snapshot written) when there is
+     * none. Blocks on file I/O; call off the main thread when the resource is large.
+     */
+    public <T> T load(int id, Codec<T> codec) throws IOException {
+        checkApkVersion();
+
+        File file = fileOf(id);
+        if (file.exists()) {
+            ByteBuffer snapshot = map(file, id, codec.version());
+            if (snapshot != null) {
+                try {
+                    T value = codec.read(snapshot);
+                    synchronized (this) {
+                        snapshotLoads++;
+                    }
+                    return value;
+                }
+                catch (IOException | RuntimeException e) {
+                    // snapshot de um codec com defeito: refeito a partir do recurso
+                }
+            }
+            file.delete();
+            synchronized (this) {
+                staleSnapshots++;
+            }
+        }
+
+        T value;
+        RawResource resource = source.open(id);
+        try {
+            value = codec.parse(resource);
+        }
+        finally {
+            resource.close();
+        }
+        synchronized (this) {
+            coldParses++;
+        }
+
+        write(file, id, codec, value);
+        return value;
+    }
+
+    /**
+     * @return <em>true</em> when a snapshot of the resource exists, without validating it
+     */
+    public boolean hasSnapshot(int id) {
+        return fileOf(id).exists();
+    }
+
+    public void invalidate(int id) {
+        fileOf(id).delete();
+    }
+
+    /**
+     * Deletes every snapshot.
+     */
+    public synchronized void clear() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        checked = false;
+    }
+
+    /**
+     * Loads answered from a snapshot.
+     */
+    public synchronized long getSnapshotLoads() {
+        return snapshotLoads;
+    }
+
+    /**
+     * Loads that parsed the resource text.
+     */
+    public synchronized long getColdParses() {
+        return coldParses;
+    }
+
+    /**
+     * Snapshots discarded as stale or damaged.
+     */
+    public synchronized long getStaleSnapshots() {
+        return staleSnapshots;
+    }
+
+    /**
+     * Snapshots that could not be written; the parsed value was returned anyway.
+     */
+    public synchronized long getWriteFailures() {
+        return writeFailures;
+    }
+
+    /**
+     * Once per instance: drops the directory when it was written by another APK.
+     */
+    private synchronized void checkApkVersion() {
+        if (checked)
+            return;
+        checked = true;
+
+        File marker = new File(dir, VERSION_FILE);
+        if (readMarker(marker))
+            return;
+
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.delete())
+                    staleSnapshots++;
+            }
+        }
+        if (!dir.isDirectory() && !dir.mkdirs())
+            return;
+
+        try {
+            DataOutputStream out = new DataOutputStream(new FileOutputStream(marker));
+            try {
+                out.writeInt(versionCode);
+                out.writeLong(installTime);
+            }
+            finally {
+                out.close();
+            }
+        }
+        catch (IOException e) {
+            marker.delete();
+        }
+    }
+
+    private boolean readMarker(File marker) {
+        if (!marker.isFile())
+            return false;
+        try {
+            DataInputStream in = new DataInputStream(new FileInputStream(marker));
+            try {
+                return in.readInt() == versionCode && in.readLong() == installTime;
+            }
+            finally {
+                in.close();
+            }
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The payload of a valid snapshot, <em>null</em> when it is stale or damaged.
+     */
+    private ByteBuffer map(File file, int id, int codecVersion) {
+        try {
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            ByteBuffer mapped;
+            try {
+                long size = raf.length();
+                if (size < HEADER_SIZE || size > Integer.MAX_VALUE)
+                    return null;
+                // o mapeamento continua válido depois de fechar o arquivo
+                mapped = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            finally {
+                raf.close();
+            }
+
+            if (mapped.getInt() != MAGIC
+                    || mapped.getInt() != FORMAT_VERSION
+                    || mapped.getInt() != id
+                    || mapped.getInt() != versionCode
+                    || mapped.getLong() != installTime
+                    || mapped.getInt() != codecVersion)
+                return null;
+            int length = mapped.getInt();
+            if (length != mapped.remaining())
+                return null;
+
+            return mapped.slice().asReadOnlyBuffer();
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes a temporary file renamed over the snapshot, so readers never see a partial one.
+     */
+    private <T> void write(File file, int id, Codec<T> codec, T value) {
+        File temp = null;
+        try {
+            if (!dir.isDirectory() && !dir.mkdirs())
+                throw new IOException("Could not create " + dir);
+            temp = File.createTempFile(file.getName() + "-", ".tmp", dir);
+
+            FileOutputStream stream = new FileOutputStream(temp);
+            try {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 16 * 1024));
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(id);
+                out.writeInt(versionCode);
+                out.writeLong(installTime);
+                out.writeInt(codec.version());
+                out.writeInt(0);
+                codec.write(value, out);
+                out.flush();
+
+                int length = out.size() - HEADER_SIZE;
+                ByteBuffer patch = ByteBuffer.allocate(4);
+                patch.putInt(0, length);
+                stream.getChannel().write(patch, HEADER_SIZE - 4);
+            }
+            finally {
+                stream.close();
+            }
+
+            if (!temp.renameTo(file))
+                throw new IOException("Could not rename " + temp + " to " + file);
+        }
+        catch (IOException | RuntimeException e) {
+            if (temp != null)
+                temp.delete();
+            synchronized (this) {
+                writeFailures++;
+            }
+        }
+    }
+
+    private File fileOf(int id) {
+        return new File(dir, Integer.toHexString(id) + ".snapshot");
+    }
+
+    private static PackageInfo packageInfo(Context context) {
+        try {
+            return context.getPackageManager().getPackageInfo(context.getPackageName(), 0);
+        }
+        catch (PackageManager.NameNotFoundException e) {
+            throw new IllegalStateException("Own package not found: " + context.getPackageName(), e);
+        }
+    }
+
+    private static final class ResourcesSource implements Source {
+        private final Context context;
+
+        ResourcesSource(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public RawResource open(int id) throws IOException {
+            return RawResource.open(context.getResources(), id);
+        }
+    }
+}
@@ -8,6 +8,9 @@ import android.view.View;
 import android.widget.EditText;
 import android.widget.TextView;
 
+import com.worksit.app.commons.metrics.Counter;
+import com.worksit.app.commons.metrics.Histogram;
+import com.worksit.app.commons.metrics.Metrics;
 import com.worksit.app.commons.switchknife.annotations.BindLoadBanner;
 import com.worksit.app.commons.switchknife.annotations.BindOnClick;
 import com.worksit.app.commons.switchknife.annotations.BindOnEditorAction;
@@ -23,22 +26,40 @@ import java.lang.reflect.Method;
 
 public class SwitchKnife {
 
+    //region Métricas
+
+    private static final Counter BINDS = Metrics.counter("switchknife.binds");
+    private static final Histogram BIND_TIME = Metrics.histogram("switchknife.bind.us");
+    private static final Counter VIEWS = Metrics.counter("switchknife.views");
+    private static final Counter LISTENERS = Metrics.counter("switchknife.listeners");
+    private static final Counter BANNERS = Metrics.counter("switchknife.banners");
+    private static final Counter ERRORS = Metrics.counter("switchknife.errors");
+
+    //endregion
+
     public static void bind(Activity activity)  {
         View sourceView = activity.getWindow().getDecorView();
-        bindLocal(activity, sourceView);
+        bindTimed(activity, sourceView);
     }
 
     public static <T1 extends View> void bind(T1 view)  {
-        bindLocal(view, view);
+        bindTimed(view, view);
     }
 
     public static <T1> void bind(T1 viewHolder, Activity activity) {
         View sourceView = activity.getWindow().getDecorView();
-        bindLocal(viewHolder, sourceView);
+        bindTimed(viewHolder, sourceView);
     }
 
     public static <T1> void bind(T1 viewHolder, View view) {
-        bindLocal(viewHolder, view);
+        bindTimed(viewHolder, view);
+    }
+
+    private static void bindTimed(Object obj, View view) {
+        long start = Metrics.start();
+        bindLocal(obj, view);
+        BINDS.inc();
+        BIND_TIME.recordSince(start);
     }
 
     private static <T1> void bindLocal(Object obj, View view) {
@@ -59,7 +80,9 @@ public class SwitchKnife {
                 try {
                     f.setAccessible(true);
                     f.set(obj, findById(view, bv.value()));
+                    VIEWS.inc();
                 } catch (IllegalAccessException e) {
+                    ERRORS.inc();
                     e.printStackTrace();
                 }
             }
@@ -87,13 +110,17 @@ public class SwitchKnife {
                                 m.setAccessible(true);
                                 m.invoke(obj, null);
                             } catch (IllegalAccessException e) {
+                                ERRORS.inc();
                                 e.printStackTrace();
                             } catch (InvocationTargetException e) {
+                                ERRORS.inc();
                                 e.printStackTrace();
                             }
                         }
                     });
+                    LISTENERS.inc();
                 } catch (Exception e) {
+                    ERRORS.inc();
                     e.printStackTrace();
                 }
             }
@@ -120,14 +147,18 @@ public class SwitchKnife {
                             m.invoke(obj, null);
                             return true;
                         } catch (IllegalAccessException e) {
+                            ERRORS.inc();
                             e.printStackTrace();
                         } catch (InvocationTargetException e) {
+                            ERRORS.inc();
                             e.printStackTrace();
                         }
                         return false;
                     }
                 });
+                LISTENERS.inc();
             } catch (Exception e) {
+                ERRORS.inc();
                 e.printStackTrace();
             }
         }
@@ -138,9 +169,12 @@ public class SwitchKnife {
             try {
                 m.setAccessible(true);
                 m.invoke(obj, null);
+                BANNERS.inc();
             } catch (IllegalAccessException e) {
+                ERRORS.inc();
                 e.printStackTrace();
             } catch (InvocationTargetException e) {
+                ERRORS.inc();
                 e.printStackTrace();
             }
         }
@@ -153,7 +187,9 @@ public class SwitchKnife {
                 try {
                     f.setAccessible(true);
                     f.set(obj, findById(ctx, bv.value()));
+                    VIEWS.inc();
                 } catch (IllegalAccessException e) {
+                    ERRORS.inc();
                     e.printStackTrace();
                 }
             }
@@ -181,13 +217,17 @@ public class SwitchKnife {
                                 m.setAccessible(true);
                                 m.invoke(obj, null);
                             } catch (IllegalAccessException e) {
+                                ERRORS.inc();
                                 e.printStackTrace();
                             } catch (InvocationTargetException e) {
+                                ERRORS.inc();
                                 e.printStackTrace();
                             }
                         }
                     });
+                    LISTENERS.inc();
                 } catch (Exception e) {
+                    ERRORS.inc();
                     e.printStackTrace();
                 }
             }
@@ -199,9 +239,12 @@ public class SwitchKnife {
             try {
                 m.setAccessible(true);
                 m.invoke(obj, null);
+                BANNERS.inc();
             } catch (IllegalAccessException e) {
+                ERRORS.inc();
                 e.printStackTrace();
             } catch (InvocationTargetException e) {
+                ERRORS.inc();
                 e.printStackTrace();
             }
         }
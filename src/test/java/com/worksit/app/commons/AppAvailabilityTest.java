@@ -0,0 +1,123 @@
+package com.worksit.app.commons;
+
+import android.content.Intent;
+import android.content.pm.ActivityInfo;
+import android.content.pm.ResolveInfo;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 25)
+public class AppAvailabilityTest {
+
+    private final FakeQuery query = new FakeQuery();
+    private final AppAvailability availability = new AppAvailability(query);
+
+    @Test
+    public void resolveNow_keepsRequestedOrderWithOneScan() {
+        query.launchers.add(launcher("com.b", "com.b.Main"));
+        query.launchers.add(launcher("com.a", "com.a.Splash"));
+        query.launchers.add(launcher("com.a", "com.a.Main"));
+
+        Map<String, AppAvailability.App> apps = availability.resolveNow(Arrays.asList("com.c", "com.a", "com.b"));
+
+        assertEquals(Arrays.asList("com.c", "com.a", "com.b"), new ArrayList<>(apps.keySet()));
+        assertFalse(apps.get("com.c").isInstalled());
+        assertEquals("com.a.Splash", apps.get("com.a").getLaunchIntent().getComponent().getClassName());
+        assertEquals("com.b.Main", apps.get("com.b").getLaunchIntent().getComponent().getClassName());
+
+        assertEquals(1, query.intents.size());
+        assertNull(query.intents.get(0).getPackage());
+    }
+
+    @Test
+    public void resolveNow_queriesOnlyMissingPackages() {
+        query.launchers.add(launcher("com.a", "com.a.Main"));
+        query.launchers.add(launcher("com.b", "com.b.Main"));
+
+        availability.resolveNow(Arrays.asList("com.a", "com.b"));
+        Map<String, AppAvailability.App> apps = availability.resolveNow(Arrays.asList("com.b", "com.a"));
+
+        assertEquals(Arrays.asList("com.b", "com.a"), new ArrayList<>(apps.keySet()));
+        assertTrue(apps.get("com.a").isInstalled());
+        assertEquals(1, query.intents.size());
+        assertNotNull(availability.peek("com.a"));
+    }
+
+    @Test
+    public void singleMiss_queriesOnlyThatPackage() {
+        query.launchers.add(launcher("com.a", "com.a.Main"));
+        query.launchers.add(launcher("com.b", "com.b.Main"));
+
+        AppAvailability.App app = availability.resolveOne("com.b");
+
+        assertTrue(app.isInstalled());
+        assertEquals("com.b.Main", app.getLaunchIntent().getComponent().getClassName());
+        assertEquals(1, query.intents.size());
+        assertEquals("com.b", query.intents.get(0).getPackage());
+        assertSame(app, availability.peek("com.b"));
+
+        assertFalse(availability.resolveOne("com.missing").isInstalled());
+        assertEquals("com.missing", query.intents.get(1).getPackage());
+    }
+
+    @Test
+    public void invalidate_dropsOnlyThatPackage() {
+        query.launchers.add(launcher("com.a", "com.a.Main"));
+        availability.resolveNow(Arrays.asList("com.a", "com.b"));
+        assertFalse(availability.peek("com.b").isInstalled());
+
+        // com.b instalado depois
+        query.launchers.add(launcher("com.b", "com.b.Main"));
+        availability.invalidate("com.b");
+
+        assertNotNull(availability.peek("com.a"));
+        assertNull(availability.peek("com.b"));
+        assertTrue(availability.resolveNow(Arrays.asList("com.a", "com.b")).get("com.b").isInstalled());
+        assertEquals("com.b", query.intents.get(1).getPackage());
+
+        availability.invalidateAll();
+        assertNull(availability.peek("com.a"));
+        assertNull(availability.peek("com.b"));
+    }
+
+    private static ResolveInfo launcher(String packageName, String className) {
+        ResolveInfo info = new ResolveInfo();
+        info.activityInfo = new ActivityInfo();
+        info.activityInfo.packageName = packageName;
+        info.activityInfo.name = className;
+        return info;
+    }
+
+    /**
+     * Launcher activities of the device, filtered by package like queryIntentActivities.
+     */
+    private static final class FakeQuery implements LauncherIndex.ActivityQuery {
+        final List<ResolveInfo> launchers = new ArrayList<>();
+        final List<Intent> intents = new ArrayList<>();
+
+        @Override
+        public List<ResolveInfo> query(Intent intent) {
+            intents.add(intent);
+            assertEquals(Intent.ACTION_MAIN, intent.getAction());
+            assertTrue(intent.hasCategory(Intent.CATEGORY_LAUNCHER));
+
+            List<ResolveInfo> result = new ArrayList<>();
+            for (ResolveInfo info : launchers) {
+                if (intent.getPackage() == null || intent.getPackage().equals(info.activityInfo.packageName))
+                    result.add(info);
+            }
+            return result;
+        }
+    }
+}
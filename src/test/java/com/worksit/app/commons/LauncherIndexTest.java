@@ -0,0 +1,163 @@
+package com.worksit.app.commons;
+
+import android.content.ComponentName;
+import android.content.Intent;
+import android.content.pm.ActivityInfo;
+import android.content.pm.ResolveInfo;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 25)
+public class LauncherIndexTest {
+
+    private static final String PACKAGE = "com.example.app";
+    private static final String LEANBACK = "android.intent.category.LEANBACK_LAUNCHER";
+
+    private final FakeQuery query = new FakeQuery();
+
+    @Test
+    public void categoriesOf_mapsEveryActivityToItsCategories() {
+        query.add(Intent.CATEGORY_LAUNCHER, activity(PACKAGE + ".MainActivity", null));
+        query.add(Intent.CATEGORY_INFO, activity(PACKAGE + ".MainActivity", null));
+        query.add(LEANBACK, activity(PACKAGE + ".TvActivity", null));
+        LauncherIndex index = new LauncherIndex(PACKAGE, query);
+
+        assertEquals(new HashSet<>(Arrays.asList(Intent.CATEGORY_LAUNCHER, Intent.CATEGORY_INFO)),
+                index.categoriesOf(PACKAGE + ".MainActivity"));
+        assertTrue(index.hasCategory(PACKAGE + ".TvActivity", LEANBACK));
+        assertFalse(index.hasCategory(PACKAGE + ".TvActivity", Intent.CATEGORY_LAUNCHER));
+        assertTrue(index.categoriesOf(PACKAGE + ".SettingsActivity").isEmpty());
+
+        // uma consulta por categoria, todas restritas ao nosso pacote
+        assertEquals(4, query.calls.get());
+        assertEquals(Collections.singleton(PACKAGE), query.packages);
+    }
+
+    @Test
+    public void alias_indexesAliasAndTarget() {
+        query.add(Intent.CATEGORY_LAUNCHER, activity(PACKAGE + ".LauncherAlias", PACKAGE + ".MainActivity"));
+        LauncherIndex index = new LauncherIndex(PACKAGE, query);
+
+        assertTrue(index.isLauncher(new ComponentName(PACKAGE, PACKAGE + ".LauncherAlias")));
+        assertTrue(index.isLauncher(new ComponentName(PACKAGE, PACKAGE + ".MainActivity")));
+        assertFalse(index.isLauncher(new ComponentName("com.other", PACKAGE + ".MainActivity")));
+    }
+
+    @Test
+    public void invalidate_rebuildsFromThePackageManager() {
+        query.add(Intent.CATEGORY_LAUNCHER, activity(PACKAGE + ".MainActivity", null));
+        LauncherIndex index = new LauncherIndex(PACKAGE, query);
+        assertTrue(index.hasCategory(PACKAGE + ".MainActivity", Intent.CATEGORY_LAUNCHER));
+        assertTrue(index.hasCategory(PACKAGE + ".MainActivity", Intent.CATEGORY_LAUNCHER));
+        assertEquals(4, query.calls.get());
+
+        // componente desabilitado e outro habilitado
+        query.clear();
+        query.add(Intent.CATEGORY_LAUNCHER, activity(PACKAGE + ".NewMainActivity", null));
+        index.invalidate();
+
+        assertFalse(index.hasCategory(PACKAGE + ".MainActivity", Intent.CATEGORY_LAUNCHER));
+        assertTrue(index.hasCategory(PACKAGE + ".NewMainActivity", Intent.CATEGORY_LAUNCHER));
+        assertEquals(8, query.calls.get());
+    }
+
+    @Test
+    public void warmUp_buildsOffTheCallingThread() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        query.add(Intent.CATEGORY_LAUNCHER, activity(PACKAGE + ".MainActivity", null));
+        query.gate = release;
+        LauncherIndex index = new LauncherIndex(PACKAGE, query);
+
+        assertFalse(index.isReady());
+        index.warmUp();
+        index.warmUp();
+        assertTrue(query.started.await(5, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), query.thread);
+        assertFalse(index.isReady());
+
+        release.countDown();
+        assertTrue(index.hasCategory(PACKAGE + ".MainActivity", Intent.CATEGORY_LAUNCHER));
+        assertTrue(index.isReady());
+        assertEquals(4, query.calls.get());
+    }
+
+    private static ResolveInfo activity(String name, String targetActivity) {
+        ResolveInfo info = new ResolveInfo();
+        info.activityInfo = new ActivityInfo();
+        info.activityInfo.packageName = PACKAGE;
+        info.activityInfo.name = name;
+        info.activityInfo.targetActivity = targetActivity;
+        return info;
+    }
+
+    /**
+     * Activities per category, answering like queryIntentActivities for ACTION_MAIN.
+     */
+    private static final class FakeQuery implements LauncherIndex.ActivityQuery {
+        final Map<String, List<ResolveInfo>> byCategory = new HashMap<>();
+        final Set<String> packages = Collections.synchronizedSet(new HashSet<String>());
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        volatile CountDownLatch gate;
+        volatile Thread thread;
+
+        synchronized void add(String category, ResolveInfo info) {
+            List<ResolveInfo> list = byCategory.get(category);
+            if (list == null) {
+                list = new ArrayList<>();
+                byCategory.put(category, list);
+            }
+            list.add(info);
+        }
+
+        synchronized void clear() {
+            byCategory.clear();
+        }
+
+        @Override
+        public List<ResolveInfo> query(Intent intent) {
+            thread = Thread.currentThread();
+            started.countDown();
+            CountDownLatch g = gate;
+            if (g != null) {
+                try {
+                    g.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            calls.incrementAndGet();
+            packages.add(intent.getPackage());
+            assertEquals(Intent.ACTION_MAIN, intent.getAction());
+            synchronized (this) {
+                List<ResolveInfo> result = new ArrayList<>();
+                for (String category : intent.getCategories()) {
+                    List<ResolveInfo> list = byCategory.get(category);
+                    if (list != null)
+                        result.addAll(list);
+                }
+                return result;
+            }
+        }
+    }
+}
@@ -0,0 +1,537 @@
+package com.worksit.app.commons;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.res.AssetFileDescriptor;
+import android.content.res.Resources;
+import android.os.Bundle;
+import android.view.ViewGroup;
+import android.widget.Button;
+import android.widget.FrameLayout;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+
+import com.worksit.app.commons.customtypes.Money;
+import com.worksit.app.commons.metrics.Metrics;
+import com.worksit.app.commons.resources.RawResources;
+import com.worksit.app.commons.switchknife.SwitchKnife;
+import com.worksit.app.commons.switchknife.annotations.BindLoadBanner;
+import com.worksit.app.commons.switchknife.annotations.BindOnClick;
+import com.worksit.app.commons.switchknife.annotations.BindView;
+
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.RoundingMode;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * What the library adds to the creation of a heavy Activity, phase by phase, over repeated
+ * runs: building a deep layout (the baseline), {@link SwitchKnife#bind(Activity)} of 48
+ * views, 16 click handlers and 4 banners, loading raw JSON through
+ * {@link RawResources} and formatting a price list with {@link Money}.
+ *
+ * Timings (microseconds) and bytes allocated per phase go to stdout and, as JSON, to
+ * {@code build/startup-benchmark.json} (override with -DstartupBenchmark.output=...), followed
+ * by the library {@link Metrics} of one extra instrumented run. Runs are set with
+ * -DstartupBenchmark.runs and -DstartupBenchmark.warmup, which Gradle forwards from the
+ * matching -P project properties. Skipped unless run with -PstartupBenchmark=true:
+ *
+ * <pre>
+ * ./gradlew testDebugUnitTest --tests '*StartupBenchmark' -PstartupBenchmark=true -PstartupBenchmark.runs=100
+ * </pre>
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 25)
+public class StartupBenchmark {
+
+    private static final String[] PHASES = {"create", "bind", "resources", "money"};
+    /** Ids of the raw resources served by {@link BenchmarkResources}, and their sizes in items */
+    private static final int[] RAW_IDS = {0x7f0c0001, 0x7f0c0002, 0x7f0c0003, 0x7f0c0004};
+    private static final int[] RAW_ITEMS = {50, 200, 800, 3200};
+    private static final int PRICES = 500;
+
+    @Test
+    public void heavyActivityStartup() throws Exception {
+        Assume.assumeTrue(Boolean.getBoolean("startupBenchmark"));
+
+        int warmup = Integer.getInteger("startupBenchmark.warmup", 5);
+        int runs = Integer.getInteger("startupBenchmark.runs", 30);
+
+        if (!Money.isInitialized())
+            Money.init(Currency.getInstance("BRL"), RoundingMode.HALF_EVEN);
+        Context context = new BenchmarkContext(RuntimeEnvironment.application);
+
+        boolean metrics = Metrics.isEnabled();
+        Metrics.setEnabled(false);
+        for (int i = 0; i < warmup; i++) {
+            run(context, null, null);
+        }
+
+        long[][] micros = new long[PHASES.length][runs];
+        long[][] bytes = new long[PHASES.length][runs];
+        for (int i = 0; i < runs; i++) {
+            long[] runMicros = new long[PHASES.length];
+            long[] runBytes = new long[PHASES.length];
+            run(context, runMicros, runBytes);
+            for (int p = 0; p < PHASES.length; p++) {
+                micros[p][i] = runMicros[p];
+                bytes[p][i] = runBytes[p];
+            }
+        }
+
+        Metrics.reset();
+        Metrics.setEnabled(true);
+        run(context, null, null);
+        String libraryMetrics = Metrics.toJson();
+        Metrics.setEnabled(metrics);
+
+        String json = report(runs, micros, bytes, libraryMetrics);
+        File output = new File(System.getProperty("startupBenchmark.output", "build/startup-benchmark.json"));
+        write(output, json);
+        System.out.println("StartupBenchmark written to " + output.getAbsolutePath());
+    }
+
+    /**
+     * One Activity creation, timing each phase into {@code micros} / {@code bytes} when given.
+     */
+    private static void run(Context context, long[] micros, long[] bytes) throws IOException {
+        long[] start = new long[2];
+
+        begin(start);
+        ActivityController<HeavyActivity> controller = Robolectric.buildActivity(HeavyActivity.class).create();
+        HeavyActivity activity = controller.get();
+        end(start, micros, bytes, 0);
+
+        begin(start);
+        SwitchKnife.bind(activity);
+        end(start, micros, bytes, 1);
+        assertNotNull(activity.text0);
+
+        begin(start);
+        RawResources resources = new RawResources();
+        int chars = 0;
+        for (int id : RAW_IDS) {
+            chars += resources.loadFile(context, id).length();
+        }
+        end(start, micros, bytes, 2);
+        assertTrue(chars > 0);
+
+        begin(start);
+        Money total = Money.ofMinorUnits(0);
+        StringBuilder list = new StringBuilder(PRICES * 16);
+        for (int i = 0; i < PRICES; i++) {
+            Money price = Money.ofMinorUnits(990 + (i % 50) * 100);
+            total = total.add(price);
+            list.append(price.toString()).append('\n');
+        }
+        list.append(total.toString());
+        end(start, micros, bytes, 3);
+        assertTrue(list.length() > 0);
+
+        controller.destroy();
+    }
+
+    private static void begin(long[] start) {
+        start[0] = allocatedBytes();
+        start[1] = System.nanoTime();
+    }
+
+    private static void end(long[] start, long[] micros, long[] bytes, int phase) {
+        long nanos = System.nanoTime() - start[1];
+        long allocated = allocatedBytes() - start[0];
+        if (micros == null)
+            return;
+        micros[phase] = nanos / 1000;
+        bytes[phase] = start[0] < 0 ? -1 : allocated;
+    }
+
+    private static String report(int runs, long[][] micros, long[][] bytes, String libraryMetrics) {
+        StringBuilder json = new StringBuilder(1024);
+        json.append("{\"runs\":").append(runs).append(",\"phases\":{");
+        for (int p = 0; p < PHASES.length; p++) {
+            Map<String, Long> stats = stats(micros[p]);
+            long allocated = median(bytes[p]);
+
+            System.out.println(String.format(Locale.US, "StartupBenchmark %-9s median %6d us, p90 %6d us, min %6d us, %9d bytes",
+                    PHASES[p], stats.get("median"), stats.get("p90"), stats.get("min"), allocated));
+
+            if (p > 0)
+                json.append(',');
+            json.append('"').append(PHASES[p]).append("\":{");
+            for (Map.Entry<String, Long> stat : stats.entrySet()) {
+                json.append('"').append(stat.getKey()).append("Micros\":").append(stat.getValue()).append(',');
+            }
+            json.append("\"allocatedBytes\":").append(allocated).append('}');
+        }
+        return json.append("},\"metrics\":").append(libraryMetrics).append('}').toString();
+    }
+
+    private static Map<String, Long> stats(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        long sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("median", sorted[sorted.length / 2]);
+        stats.put("mean", sum / sorted.length);
+        stats.put("min", sorted[0]);
+        stats.put("p90", sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * 0.9) - 1)]);
+        stats.put("max", sorted[sorted.length - 1]);
+        return stats;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static void write(File file, String text) throws IOException {
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs())
+            throw new IOException("Could not create " + dir);
+
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            writer.write(text);
+        }
+        finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Bytes allocated by this thread, -1 when the JVM does not tell.
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean)
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        return -1;
+    }
+
+    /**
+     * Context whose resources serve the synthetic raw JSON.
+     */
+    private static final class BenchmarkContext extends ContextWrapper {
+        private final Resources resources;
+
+        BenchmarkContext(Context base) {
+            super(base);
+            resources = new BenchmarkResources(base.getResources());
+        }
+
+        @Override
+        public Resources getResources() {
+            return resources;
+        }
+    }
+
+    /**
+     * Raw resources {@link #RAW_IDS} as JSON arrays of products; like compressed resources in
+     * an APK they have no file descriptor, so they are read from the stream.
+     */
+    private static final class BenchmarkResources extends Resources {
+        private final Map<Integer, byte[]> raw = new LinkedHashMap<>();
+
+        BenchmarkResources(Resources base) {
+            super(base.getAssets(), base.getDisplayMetrics(), base.getConfiguration());
+            for (int i = 0; i < RAW_IDS.length; i++) {
+                raw.put(RAW_IDS[i], json(RAW_ITEMS[i]).getBytes(Charset.forName("UTF-8")));
+            }
+        }
+
+        @Override
+        public InputStream openRawResource(int id) throws NotFoundException {
+            byte[] bytes = raw.get(id);
+            if (bytes == null)
+                throw new NotFoundException("Resource ID #0x" + Integer.toHexString(id));
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public AssetFileDescriptor openRawResourceFd(int id) throws NotFoundException {
+            throw new NotFoundException("Compressed resource #0x" + Integer.toHexString(id));
+        }
+
+        private static String json(int items) {
+            StringBuilder sb = new StringBuilder(items * 80).append('[');
+            for (int i = 0; i < items; i++) {
+                if (i > 0)
+                    sb.append(",\n");
+                sb.append("{\"id\":").append(i)
+                        .append(",\"name\":\"Produto ").append(i).append(" – São Paulo\"")
+                        .append(",\"price\":").append(990 + i)
+                        .append(",\"tags\":[\"promo\",\"frete grátis\"]}");
+            }
+            return sb.append(']').toString();
+        }
+    }
+
+    /**
+     * 8 sections nested 12 levels deep, each ending in 6 TextViews and 4 Buttons.
+     */
+    public static class HeavyActivity extends Activity {
+
+        static final int SECTIONS = 8;
+        static final int DEPTH = 12;
+        static final int TEXTS = 6;
+        static final int BUTTONS = 4;
+        static final int TEXT = 0x7f0b0000;
+        static final int BUTTON = 0x7f0b1000;
+
+        int clicks;
+
+        @BindView(TEXT + 0)
+        TextView text0;
+        @BindView(TEXT + 1)
+        TextView text1;
+        @BindView(TEXT + 2)
+        TextView text2;
+        @BindView(TEXT + 3)
+        TextView text3;
+        @BindView(TEXT + 4)
+        TextView text4;
+        @BindView(TEXT + 5)
+        TextView text5;
+        @BindView(TEXT + 6)
+        TextView text6;
+        @BindView(TEXT + 7)
+        TextView text7;
+        @BindView(TEXT + 8)
+        TextView text8;
+        @BindView(TEXT + 9)
+        TextView text9;
+        @BindView(TEXT + 10)
+        TextView text10;
+        @BindView(TEXT + 11)
+        TextView text11;
+        @BindView(TEXT + 12)
+        TextView text12;
+        @BindView(TEXT + 13)
+        TextView text13;
+        @BindView(TEXT + 14)
+        TextView text14;
+        @BindView(TEXT + 15)
+        TextView text15;
+        @BindView(TEXT + 16)
+        TextView text16;
+        @BindView(TEXT + 17)
+        TextView text17;
+        @BindView(TEXT + 18)
+        TextView text18;
+        @BindView(TEXT + 19)
+        TextView text19;
+        @BindView(TEXT + 20)
+        TextView text20;
+        @BindView(TEXT + 21)
+        TextView text21;
+        @BindView(TEXT + 22)
+        TextView text22;
+        @BindView(TEXT + 23)
+        TextView text23;
+        @BindView(TEXT + 24)
+        TextView text24;
+        @BindView(TEXT + 25)
+        TextView text25;
+        @BindView(TEXT + 26)
+        TextView text26;
+        @BindView(TEXT + 27)
+        TextView text27;
+        @BindView(TEXT + 28)
+        TextView text28;
+        @BindView(TEXT + 29)
+        TextView text29;
+        @BindView(TEXT + 30)
+        TextView text30;
+        @BindView(TEXT + 31)
+        TextView text31;
+        @BindView(TEXT + 32)
+        TextView text32;
+        @BindView(TEXT + 33)
+        TextView text33;
+        @BindView(TEXT + 34)
+        TextView text34;
+        @BindView(TEXT + 35)
+        TextView text35;
+        @BindView(TEXT + 36)
+        TextView text36;
+        @BindView(TEXT + 37)
+        TextView text37;
+        @BindView(TEXT + 38)
+        TextView text38;
+        @BindView(TEXT + 39)
+        TextView text39;
+        @BindView(TEXT + 40)
+        TextView text40;
+        @BindView(TEXT + 41)
+        TextView text41;
+        @BindView(TEXT + 42)
+        TextView text42;
+        @BindView(TEXT + 43)
+        TextView text43;
+        @BindView(TEXT + 44)
+        TextView text44;
+        @BindView(TEXT + 45)
+        TextView text45;
+        @BindView(TEXT + 46)
+        TextView text46;
+        @BindView(TEXT + 47)
+        TextView text47;
+
+        @Override
+        protected void onCreate(Bundle savedInstanceState) {
+            super.onCreate(savedInstanceState);
+
+            LinearLayout root = new LinearLayout(this);
+            root.setOrientation(LinearLayout.VERTICAL);
+            for (int s = 0; s < SECTIONS; s++) {
+                ViewGroup parent = root;
+                for (int d = 0; d < DEPTH; d++) {
+                    ViewGroup child = d % 2 == 0 ? new FrameLayout(this) : new LinearLayout(this);
+                    parent.addView(child);
+                    parent = child;
+                }
+                for (int t = 0; t < TEXTS; t++) {
+                    TextView text = new TextView(this);
+                    text.setId(TEXT + s * TEXTS + t);
+                    parent.addView(text);
+                }
+                for (int b = 0; b < BUTTONS; b++) {
+                    Button button = new Button(this);
+                    button.setId(BUTTON + s * BUTTONS + b);
+                    parent.addView(button, new ViewGroup.LayoutParams(ViewGroup.LayoutParams.WRAP_CONTENT,
+                            ViewGroup.LayoutParams.WRAP_CONTENT));
+                }
+            }
+            setContentView(root);
+        }
+
+        @BindOnClick({BUTTON + 0, BUTTON + 1})
+        void onClick0() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 2, BUTTON + 3})
+        void onClick1() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 4, BUTTON + 5})
+        void onClick2() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 6, BUTTON + 7})
+        void onClick3() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 8, BUTTON + 9})
+        void onClick4() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 10, BUTTON + 11})
+        void onClick5() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 12, BUTTON + 13})
+        void onClick6() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 14, BUTTON + 15})
+        void onClick7() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 16, BUTTON + 17})
+        void onClick8() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 18, BUTTON + 19})
+        void onClick9() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 20, BUTTON + 21})
+        void onClick10() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 22, BUTTON + 23})
+        void onClick11() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 24, BUTTON + 25})
+        void onClick12() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 26, BUTTON + 27})
+        void onClick13() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 28, BUTTON + 29})
+        void onClick14() {
+            clicks++;
+        }
+
+        @BindOnClick({BUTTON + 30, BUTTON + 31})
+        void onClick15() {
+            clicks++;
+        }
+
+        @BindLoadBanner
+        void loadBanner0() {
+            text0.setText("banner 0");
+        }
+
+        @BindLoadBanner
+        void loadBanner1() {
+            text6.setText("banner 1");
+        }
+
+        @BindLoadBanner
+        void loadBanner2() {
+            text12.setText("banner 2");
+        }
+
+        @BindLoadBanner
+        void loadBanner3() {
+            text18.setText("banner 3");
+        }
+    }
+}
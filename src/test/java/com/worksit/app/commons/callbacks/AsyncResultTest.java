@@ -0,0 +1,217 @@
+package com.worksit.app.commons.callbacks;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class AsyncResultTest {
+
+    private ScheduledExecutorService network;
+    private AtomicInteger cancelledOperations;
+
+    @Before
+    public void setUp() {
+        network = Executors.newScheduledThreadPool(4);
+        cancelledOperations = new AtomicInteger();
+    }
+
+    @After
+    public void tearDown() {
+        network.shutdownNow();
+    }
+
+    @Test
+    public void all_runsEverySourceConcurrently() throws Exception {
+        // as quatro operações precisam estar em andamento ao mesmo tempo: nenhuma termina antes
+        // de todas terem começado, o que travaria uma execução sequencial
+        CountDownLatch started = new CountDownLatch(4);
+        CountDownLatch[] release = new CountDownLatch[4];
+        for (int i = 0; i < release.length; i++) {
+            release[i] = new CountDownLatch(1);
+        }
+
+        BlockingCallback<List<String>> callback = new BlockingCallback<>();
+        AsyncResult.all(gated("a", started, release[0]), gated("b", started, release[1]),
+                gated("c", started, release[2]), gated("d", started, release[3])).to(callback);
+
+        assertTrue(started.await(5000, TimeUnit.MILLISECONDS));
+        for (int i = release.length - 1; i > 0; i--) {
+            release[i].countDown();
+        }
+        assertFalse(callback.await(50));
+        assertEquals(0, callback.getDeliveries());
+
+        release[0].countDown();
+        assertTrue(callback.await(5000));
+        assertEquals(Arrays.asList("a", "b", "c", "d"), callback.getData());
+    }
+
+    @Test
+    public void mapAndFlatMap_chainStages() throws Exception {
+        BlockingCallback<Integer> callback = new BlockingCallback<>();
+        fetch("42", 10).map(new AsyncResult.Function<String, Integer>() {
+            @Override
+            public Integer apply(String value) {
+                return Integer.parseInt(value);
+            }
+        }).flatMap(new AsyncResult.Function<Integer, AsyncResult<Integer>>() {
+            @Override
+            public AsyncResult<Integer> apply(Integer value) {
+                return fetch(value + 1, 10);
+            }
+        }).to(callback);
+
+        assertTrue(callback.await(5000));
+        assertEquals(Integer.valueOf(43), callback.getData());
+    }
+
+    @Test
+    public void mapFailure_isDeliveredAsError() throws Exception {
+        BlockingCallback<Integer> callback = new BlockingCallback<>();
+        AsyncResult.success("x").map(new AsyncResult.Function<String, Integer>() {
+            @Override
+            public Integer apply(String value) {
+                return Integer.parseInt(value);
+            }
+        }).to(callback);
+
+        assertTrue(callback.await(0));
+        assertTrue(callback.getError() instanceof NumberFormatException);
+    }
+
+    @Test
+    public void zip_combinesBothValues() throws Exception {
+        BlockingCallback<String> callback = new BlockingCallback<>();
+        AsyncResult.zip(fetch("user", 50), fetch(3, 80), new AsyncResult.Combiner<String, Integer, String>() {
+            @Override
+            public String combine(String first, Integer second) {
+                return first + "/" + second;
+            }
+        }).to(callback);
+
+        assertTrue(callback.await(5000));
+        assertEquals("user/3", callback.getData());
+    }
+
+    @Test
+    public void all_failsFastAndCancelsTheRest() throws Exception {
+        BlockingCallback<List<String>> callback = new BlockingCallback<>();
+        AsyncResult<String> slow = fetch("slow", 1000);
+        AsyncResult.all(slow, AsyncResult.<String>failure(new IllegalStateException("boom"))).to(callback);
+
+        assertTrue(callback.await(0));
+        assertEquals("boom", callback.getError().getMessage());
+        assertTrue(slow.isCancelled());
+        assertEquals(1, cancelledOperations.get());
+    }
+
+    @Test
+    public void any_deliversTheFirstSuccess() throws Exception {
+        BlockingCallback<String> callback = new BlockingCallback<>();
+        AsyncResult<String> mirror = fetch("mirror", 1000);
+        AsyncResult.any(AsyncResult.<String>failure(new IllegalStateException()), fetch("primary", 20), mirror).to(callback);
+
+        assertTrue(callback.await(5000));
+        assertEquals("primary", callback.getData());
+        assertTrue(mirror.isCancelled());
+    }
+
+    @Test
+    public void timeout_failsAndCancelsTheOperation() throws Exception {
+        BlockingCallback<String> callback = new BlockingCallback<>();
+        AsyncResult<String> slow = fetch("late", 1000);
+        slow.timeout(50, network).to(callback);
+
+        assertTrue(callback.await(5000));
+        assertTrue(callback.getError() instanceof TimeoutException);
+        assertTrue(slow.isCancelled());
+        assertEquals(1, cancelledOperations.get());
+    }
+
+    @Test
+    public void cancelledResult_isNeverDelivered() throws Exception {
+        BlockingCallback<Integer> callback = new BlockingCallback<>();
+        AsyncResult<String> source = fetch("1", 50);
+        AsyncResult<Integer> mapped = source.map(new AsyncResult.Function<String, Integer>() {
+            @Override
+            public Integer apply(String value) {
+                return Integer.parseInt(value);
+            }
+        });
+        mapped.to(callback);
+
+        assertTrue(mapped.cancel());
+        assertTrue(source.isCancelled());
+        assertFalse(callback.await(200));
+        assertEquals(1, cancelledOperations.get());
+    }
+
+    /**
+     * Simulated request completing on a network thread after {@code millis}.
+     */
+    private <T> AsyncResult<T> fetch(final T value, final long millis) {
+        return AsyncResult.start(new AsyncResult.Operation<T>() {
+            @Override
+            public Cancellable start(final GenericCallback<T> callback) {
+                final ScheduledFuture<?> future = network.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        callback.onSuccess(value);
+                    }
+                }, millis, TimeUnit.MILLISECONDS);
+
+                return new Cancellable() {
+                    @Override
+                    public boolean cancel() {
+                        cancelledOperations.incrementAndGet();
+                        return future.cancel(false);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Operation that reports its start and completes on a network thread once released.
+     */
+    private <T> AsyncResult<T> gated(final T value, final CountDownLatch started, final CountDownLatch release) {
+        return AsyncResult.start(new AsyncResult.Operation<T>() {
+            @Override
+            public Cancellable start(final GenericCallback<T> callback) {
+                started.countDown();
+                final Future<?> future = network.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            release.await();
+                            callback.onSuccess(value);
+                        }
+                        catch (InterruptedException e) {
+                            callback.onError(e);
+                        }
+                    }
+                });
+
+                return new Cancellable() {
+                    @Override
+                    public boolean cancel() {
+                        return future.cancel(true);
+                    }
+                };
+            }
+        });
+    }
+}
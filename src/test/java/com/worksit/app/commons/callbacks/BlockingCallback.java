@@ -0,0 +1,54 @@
+package com.worksit.app.commons.callbacks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link GenericCallback} that lets a test wait for the delivery.
+ */
+public class BlockingCallback<T> implements GenericCallback<T> {
+
+    private final CountDownLatch latch;
+    private final AtomicInteger deliveries = new AtomicInteger();
+    private volatile T data;
+    private volatile Exception error;
+
+    public BlockingCallback() {
+        this(1);
+    }
+
+    public BlockingCallback(int expectedDeliveries) {
+        this.latch = new CountDownLatch(expectedDeliveries);
+    }
+
+    @Override
+    public void onSuccess(T data) {
+        this.data = data;
+        deliveries.incrementAndGet();
+        latch.countDown();
+    }
+
+    @Override
+    public void onError(Exception ex) {
+        this.error = ex;
+        deliveries.incrementAndGet();
+        latch.countDown();
+    }
+
+    public boolean await(long millis) throws InterruptedException {
+        return latch.await(millis, TimeUnit.MILLISECONDS);
+    }
+
+    public T getData() {
+        return data;
+    }
+
+    public Exception getError() {
+        return error;
+    }
+
+    public int getDeliveries() {
+        return deliveries.get();
+    }
+}
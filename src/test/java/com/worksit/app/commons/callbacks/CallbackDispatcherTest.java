@@ -0,0 +1,161 @@
+package com.worksit.app.commons.callbacks;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CallbackDispatcherTest {
+
+    private FakeLooper looper;
+    private CallbackDispatcher dispatcher;
+    private List<String> log;
+
+    @Before
+    public void setUp() {
+        looper = new FakeLooper();
+        dispatcher = new CallbackDispatcher(looper, looper, 16);
+        log = new ArrayList<>();
+    }
+
+    @Test
+    public void resultsWithinAFrame_areDeliveredInOneDrain() {
+        for (int i = 0; i < 20; i++) {
+            dispatcher.wrap(logging("r" + i)).onSuccess(i);
+        }
+
+        assertEquals(1, looper.posted.size());
+        assertTrue(log.isEmpty());
+
+        looper.advance(16);
+
+        assertEquals(20, log.size());
+        assertEquals("r0:0", log.get(0));
+        assertEquals("r19:19", log.get(19));
+        assertEquals(1, dispatcher.getDrainCount());
+        assertEquals(20, dispatcher.getMaxBatchSize());
+    }
+
+    @Test
+    public void drain_isAlignedToTheFrameBoundary() {
+        looper.now = 5;
+        dispatcher.wrap(logging("a")).onSuccess(1);
+
+        looper.advance(10);
+        assertTrue(log.isEmpty());
+        looper.advance(1);
+        assertEquals(1, log.size());
+    }
+
+    @Test
+    public void latestWins_dropsSupersededResultsOfTheKey() {
+        dispatcher.wrapLatest("search", logging("old")).onSuccess(1);
+        dispatcher.wrap(logging("other")).onSuccess(2);
+        dispatcher.wrapLatest("search", logging("new")).onSuccess(3);
+
+        looper.advance(16);
+
+        assertEquals(2, log.size());
+        assertEquals("other:2", log.get(0));
+        assertEquals("new:3", log.get(1));
+        assertEquals(1, dispatcher.getDroppedCount());
+        assertEquals(2, dispatcher.getDeliveredCount());
+    }
+
+    @Test
+    public void resultsAfterADrain_goToTheNextBatch() {
+        dispatcher.wrap(logging("a")).onSuccess(1);
+        looper.advance(16);
+        dispatcher.wrap(logging("b")).onSuccess(2);
+        dispatcher.wrap(logging("c")).onError(new IllegalStateException("x"));
+        looper.advance(16);
+
+        assertEquals(3, log.size());
+        assertEquals("c:x", log.get(2));
+        assertEquals(2, dispatcher.getDrainCount());
+        assertEquals(1.5, dispatcher.getAverageBatchSize(), 0.001);
+    }
+
+    @Test
+    public void resultPostedFromADelivery_isDeliveredInTheNextFrame() {
+        final GenericCallback<Integer> second = dispatcher.wrap(logging("second"));
+        dispatcher.wrap(new GenericCallback<Integer>() {
+            @Override
+            public void onSuccess(Integer data) {
+                log.add("first");
+                second.onSuccess(data + 1);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+            }
+        }).onSuccess(1);
+
+        looper.advance(16);
+        assertEquals(1, log.size());
+        looper.advance(16);
+        assertEquals("second:2", log.get(1));
+    }
+
+    private GenericCallback<Integer> logging(final String name) {
+        return new GenericCallback<Integer>() {
+            @Override
+            public void onSuccess(Integer data) {
+                log.add(name + ":" + data);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                log.add(name + ":" + ex.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Single-threaded looper with a manual clock.
+     */
+    private static final class FakeLooper implements CallbackDispatcher.Poster, CallbackDispatcher.Clock {
+        final List<Message> posted = new ArrayList<>();
+        long now;
+
+        @Override
+        public void postDelayed(Runnable runnable, long delayMillis) {
+            posted.add(new Message(now + delayMillis, runnable));
+        }
+
+        @Override
+        public long uptimeMillis() {
+            return now;
+        }
+
+        void advance(long millis) {
+            now += millis;
+            List<Runnable> due = new ArrayList<>();
+            Iterator<Message> it = posted.iterator();
+            while (it.hasNext()) {
+                Message message = it.next();
+                if (message.when <= now) {
+                    due.add(message.runnable);
+                    it.remove();
+                }
+            }
+            for (Runnable runnable : due) {
+                runnable.run();
+            }
+        }
+    }
+
+    private static final class Message {
+        final long when;
+        final Runnable runnable;
+
+        Message(long when, Runnable runnable) {
+            this.when = when;
+            this.runnable = runnable;
+        }
+    }
+}
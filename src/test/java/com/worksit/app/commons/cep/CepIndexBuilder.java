@@ -0,0 +1,233 @@
+package com.worksit.app.commons.cep;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by SKYNET-DEV01 on 19/10/2026.
+ */
+
+/**
+ * Build-time tool that packs a CEP dataset into the binary read by {@link CepIndex}.
+ *
+ * Records are sorted by CEP and written in blocks of delta-encoded varints; streets, districts,
+ * cities and UFs go to a shared string table, most frequent first so that their ids take a
+ * single byte. Lives with the unit tests so it stays out of the library; run it through the
+ * build:
+ *
+ * <pre>
+ * ./gradlew buildCepIndex -PcepCsv=ceps.csv -PcepOut=src/main/res/raw/ceps.bin
+ * </pre>
+ *
+ * The CSV is UTF-8, one "cep;street;district;city;uf" record per line; lines whose first field
+ * is not a CEP (headers) are skipped.
+ */
+public final class CepIndexBuilder {
+
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final int blockSize;
+    private final Map<Integer, String[]> records = new HashMap<>();
+
+    public CepIndexBuilder() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param blockSize records per block: larger blocks make the index smaller and lookups
+     *                  slower
+     */
+    public CepIndexBuilder(int blockSize) {
+        if (blockSize < 1)
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        this.blockSize = blockSize;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: CepIndexBuilder <ceps.csv> <output.bin>");
+            System.exit(2);
+        }
+
+        CepIndexBuilder builder = new CepIndexBuilder();
+        Reader reader = new InputStreamReader(new FileInputStream(args[0]), UTF_8);
+        try {
+            builder.addCsv(reader, ';');
+        }
+        finally {
+            reader.close();
+        }
+
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(args[1]));
+        try {
+            builder.write(out);
+        }
+        finally {
+            out.close();
+        }
+        System.out.println(builder.size() + " CEPs written to " + args[1]);
+    }
+
+    /**
+     * @throws IllegalArgumentException for an invalid or repeated CEP
+     */
+    public CepIndexBuilder add(int cep, String street, String district, String city, String uf) {
+        if (cep < 0 || cep > 99999999)
+            throw new IllegalArgumentException("Invalid CEP: " + cep);
+        if (records.put(cep, new String[]{nonNull(street), nonNull(district), nonNull(city), nonNull(uf)}) != null)
+            throw new IllegalArgumentException("Repeated CEP: " + CepIndex.digitsOf(cep));
+        return this;
+    }
+
+    public CepIndexBuilder addCsv(Reader reader, char separator) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int number = 0;
+        while ((line = lines.readLine()) != null) {
+            number++;
+            if (line.trim().isEmpty())
+                continue;
+
+            String[] fields = split(line, separator);
+            int cep = CepIndex.parse(fields[0]);
+            if (cep < 0)
+                continue;
+            if (fields.length < 5)
+                throw new IOException("Line " + number + ": expected 5 fields, found " + fields.length);
+            add(cep, fields[1], fields[2], fields[3], fields[4]);
+        }
+        return this;
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    public void write(OutputStream output) throws IOException {
+        Integer[] ceps = records.keySet().toArray(new Integer[records.size()]);
+        Arrays.sort(ceps);
+
+        List<String> strings = stringTable();
+        Map<String, Integer> ids = new HashMap<>(strings.size() * 2);
+        ByteArrayOutputStream stringData = new ByteArrayOutputStream();
+        int[] stringOffsets = new int[strings.size() + 1];
+        for (int i = 0; i < strings.size(); i++) {
+            ids.put(strings.get(i), i);
+            byte[] bytes = strings.get(i).getBytes(UTF_8);
+            stringData.write(bytes, 0, bytes.length);
+            stringOffsets[i + 1] = stringData.size();
+        }
+
+        int blockCount = (ceps.length + blockSize - 1) / blockSize;
+        int[] blockFirst = new int[blockCount];
+        int[] blockOffset = new int[blockCount];
+        ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+        int previous = 0;
+        for (int i = 0; i < ceps.length; i++) {
+            int cep = ceps[i];
+            if (i % blockSize == 0) {
+                blockFirst[i / blockSize] = cep;
+                blockOffset[i / blockSize] = blocks.size();
+                previous = cep;
+            }
+
+            writeVarint(blocks, cep - previous);
+            for (String field : records.get(cep)) {
+                writeVarint(blocks, ids.get(field));
+            }
+            previous = cep;
+        }
+
+        int stringOffsetsStart = CepIndex.HEADER_SIZE;
+        int stringDataStart = stringOffsetsStart + stringOffsets.length * 4;
+        int blockIndexStart = stringDataStart + stringData.size();
+        int blocksStart = blockIndexStart + blockCount * 8;
+
+        DataOutputStream out = new DataOutputStream(output);
+        out.writeInt(CepIndex.MAGIC);
+        out.writeInt(CepIndex.VERSION);
+        out.writeInt(ceps.length);
+        out.writeInt(blockSize);
+        out.writeInt(blockCount);
+        out.writeInt(strings.size());
+        out.writeInt(stringOffsetsStart);
+        out.writeInt(stringDataStart);
+        out.writeInt(blockIndexStart);
+        out.writeInt(blocksStart);
+        for (int offset : stringOffsets) {
+            out.writeInt(offset);
+        }
+        stringData.writeTo(out);
+        for (int i = 0; i < blockCount; i++) {
+            out.writeInt(blockFirst[i]);
+            out.writeInt(blockOffset[i]);
+        }
+        blocks.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Distinct strings, most frequent first.
+     */
+    private List<String> stringTable() {
+        final Map<String, Integer> counts = new HashMap<>();
+        for (String[] fields : records.values()) {
+            for (String field : fields) {
+                Integer count = counts.get(field);
+                counts.put(field, count == null ? 1 : count + 1);
+            }
+        }
+
+        List<String> strings = new ArrayList<>(counts.keySet());
+        Collections.sort(strings, new Comparator<String>() {
+            @Override
+            public int compare(String a, String b) {
+                int byCount = counts.get(b).compareTo(counts.get(a));
+                return byCount != 0 ? byCount : a.compareTo(b);
+            }
+        });
+        return strings;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static String[] split(String line, char separator) {
+        List<String> fields = new ArrayList<>(5);
+        int start = 0;
+        for (int i = 0; i <= line.length(); i++) {
+            if (i == line.length() || line.charAt(i) == separator) {
+                fields.add(line.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        return fields.toArray(new String[fields.size()]);
+    }
+
+    private static String nonNull(String value) {
+        return value == null ? "" : value.trim();
+    }
+}
@@ -0,0 +1,93 @@
+package com.worksit.app.commons.cep;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CepIndexTest {
+
+    @Test
+    public void csvFixture_isPackedAndFound() throws Exception {
+        CepIndexBuilder builder = new CepIndexBuilder(2);
+        Reader reader = new InputStreamReader(getClass().getResourceAsStream("/fixtures/ceps.csv"), "UTF-8");
+        try {
+            builder.addCsv(reader, ';');
+        }
+        finally {
+            reader.close();
+        }
+        CepIndex index = index(builder);
+
+        assertEquals(6, index.size());
+        CepAddress se = index.find("01001-000");
+        assertEquals("Praça da Sé", se.getStreet());
+        assertEquals("Sé", se.getDistrict());
+        assertEquals("São Paulo", se.getCity());
+        assertEquals("SP", se.getUf());
+        assertEquals("01001-000", se.getFormattedCep());
+
+        CepAddress city = index.find("69900000");
+        assertEquals("", city.getStreet());
+        assertEquals("Rio Branco", city.getCity());
+        assertEquals("RS", index.find(90010000).getUf());
+    }
+
+    @Test
+    public void unknownOrIncompleteCeps_areNotFound() throws Exception {
+        CepIndex index = index(new CepIndexBuilder(4)
+                .add(20040002, "Rua da Assembleia", "Centro", "Rio de Janeiro", "RJ")
+                .add(30130010, "Praça Sete de Setembro", "Centro", "Belo Horizonte", "MG"));
+
+        assertNull(index.find(1001000));
+        assertNull(index.find(20040003));
+        assertNull(index.find(99999999));
+        assertNull(index.find("200400021"));
+        assertNull(index.find("2004000a"));
+        assertNull(index(new CepIndexBuilder()).find(20040002));
+    }
+
+    @Test(expected = IOException.class)
+    public void otherData_isRejected() throws Exception {
+        new CepIndex(ByteBuffer.wrap(new byte[64]));
+    }
+
+    @Test
+    public void largeIndex_answersEveryCepInMicroseconds() throws Exception {
+        Random random = new Random(42);
+        int[] ceps = new int[100000];
+        CepIndexBuilder builder = new CepIndexBuilder();
+        for (int i = 0; i < ceps.length; i++) {
+            ceps[i] = i * 700 + random.nextInt(700);
+            builder.add(ceps[i], "Rua " + (i % 5000), "Bairro " + (i % 800), "Cidade " + (i % 300), "UF" + (i % 27));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        builder.write(out);
+        CepIndex index = new CepIndex(ByteBuffer.wrap(out.toByteArray()));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ceps.length; i++) {
+            CepAddress address = index.find(ceps[i]);
+            assertEquals("Rua " + (i % 5000), address.getStreet());
+        }
+        double micros = (System.nanoTime() - start) / 1000.0 / ceps.length;
+
+        System.out.println(String.format("CepIndex: %d CEPs in %d KB, %.2f us/lookup",
+                ceps.length, out.size() / 1024, micros));
+        assertTrue(out.size() < ceps.length * 16);
+        assertTrue(micros < 100);
+    }
+
+    private static CepIndex index(CepIndexBuilder builder) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        builder.write(out);
+        return new CepIndex(ByteBuffer.wrap(out.toByteArray()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.worksit.app.commons.customtypes;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+import static org.junit.Assert.*;
+
+public class MoneyTest {
+
+    private static final Currency BRL = Currency.getInstance("BRL");
+    private static final Currency JPY = Currency.getInstance("JPY");
+
+    @BeforeClass
+    public static void init() {
+        if (!Money.isInitialized())
+            Money.init(BRL, RoundingMode.HALF_EVEN);
+    }
+
+    @Test
+    public void valueOf_sharesInstancesInRange() {
+        assertSame(Money.ofMinorUnits(0), Money.ofMinorUnits(0));
+        assertSame(Money.ofMinorUnits(1990), Money.valueOf(new BigDecimal("19.90")));
+        assertSame(Money.ofMinorUnits(100), Money.valueOf(1.0));
+        assertSame(Money.ofMinorUnits(-250), Money.ofMinorUnits(-250));
+
+        Money large = Money.ofMinorUnits(Money.DEFAULT_CACHE_MAX + 1);
+        assertNotSame(large, Money.ofMinorUnits(Money.DEFAULT_CACHE_MAX + 1));
+        assertEquals(large, Money.ofMinorUnits(Money.DEFAULT_CACHE_MAX + 1));
+    }
+
+    @Test
+    public void valueOf_equalsConstructor() {
+        assertEquals(new Money(new BigDecimal("19.9")), Money.valueOf(new BigDecimal("19.9")));
+        assertEquals(new Money(2.345), Money.valueOf(2.345));
+        assertEquals(BRL.getSymbol() + " 2.34", Money.ofMinorUnits(234).toString());
+        assertEquals(new BigDecimal("1234567.89"), Money.ofMinorUnits(123456789L).getAmount());
+    }
+
+    @Test
+    public void valueOf_keysByCurrencyAndRounding() {
+        Money brl = Money.ofMinorUnits(500, BRL, RoundingMode.HALF_EVEN);
+        Money up = Money.ofMinorUnits(500, BRL, RoundingMode.UP);
+        Money yen = Money.ofMinorUnits(500, JPY, RoundingMode.HALF_EVEN);
+
+        assertNotSame(brl, up);
+        assertSame(up, Money.ofMinorUnits(500, BRL, RoundingMode.UP));
+        assertEquals(new BigDecimal("5.00"), brl.getAmount());
+        assertEquals(new BigDecimal("500"), yen.getAmount());
+        assertSame(yen, Money.valueOf(new BigDecimal("499.6"), JPY, RoundingMode.HALF_EVEN));
+    }
+
+    @Test
+    public void currencyInfo_isCached() {
+        Money.CurrencyInfo info = Money.CurrencyInfo.of(BRL);
+        assertSame(info, Money.CurrencyInfo.of(BRL));
+        assertSame(info, Money.ofMinorUnits(10).getCurrencyInfo());
+        assertEquals(2, info.getFractionDigits());
+        assertEquals(100, info.getScaleFactor());
+        assertEquals(new BigDecimal("0.01"), info.getMinorUnit());
+        assertEquals(BRL.getSymbol(), info.getSymbol());
+
+        assertEquals(0, Money.CurrencyInfo.of(JPY).getFractionDigits());
+        assertEquals(1, Money.CurrencyInfo.of(JPY).getScaleFactor());
+    }
+
+    @Test
+    public void absAndNegate_reuseUnchangedValues() {
+        Money zero = new Money(BigDecimal.ZERO);
+        assertSame(zero, zero.negate());
+        assertSame(zero, zero.abs());
+
+        Money positive = new Money(new BigDecimal("3.50"));
+        assertSame(positive, positive.abs());
+
+        Money negative = positive.negate();
+        assertEquals(new BigDecimal("-3.50"), negative.getAmount());
+        assertSame(Money.ofMinorUnits(-350), negative);
+        assertSame(Money.ofMinorUnits(350), negative.abs());
+        assertEquals(positive, negative.negate());
+    }
+
+    @Test
+    public void absAndNegate_bothRescaleOtherScales() {
+        Money zero = new Money(0.0, 4);
+        assertEquals(4, zero.getAmount().scale());
+        assertSame(Money.ofMinorUnits(0), zero.negate());
+        assertSame(Money.ofMinorUnits(0), zero.abs());
+
+        Money positive = new Money(1.5, 4);
+        assertSame(Money.ofMinorUnits(150), positive.abs());
+        assertSame(Money.ofMinorUnits(-150), positive.negate());
+    }
+
+    @Test
+    public void minorUnitsAndValueOf_areNotInterchangeable() {
+        assertEquals(new BigDecimal("0.05"), Money.ofMinorUnits(5).getAmount());
+        assertEquals(new BigDecimal("5.00"), Money.valueOf(5).getAmount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void init_rejectsOversizedCacheRange() {
+        Money.init(BRL, RoundingMode.HALF_EVEN, -1, Money.MAX_CACHE_SIZE);
+    }
+
+    @Test
+    public void times_roundsToCurrencyDigits() {
+        assertEquals(new BigDecimal("7.00"), Money.ofMinorUnits(350).times(2).getAmount());
+        assertEquals(new BigDecimal("1.17"), Money.ofMinorUnits(350).times(1.0 / 3).getAmount());
+        assertSame(Money.ofMinorUnits(0), Money.ofMinorUnits(350).times(0));
+    }
+}
@@ -0,0 +1,204 @@
+package com.worksit.app.commons.dialogs;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ProgressControllerTest {
+
+    private FakeScheduler scheduler;
+    private FakeView view;
+    private ProgressController controller;
+
+    @Before
+    public void setUp() {
+        scheduler = new FakeScheduler();
+        view = new FakeView();
+        controller = new ProgressController(view, scheduler, 300, 500);
+    }
+
+    @Test
+    public void quickOperation_neverShowsTheDialog() {
+        controller.begin("Carregando");
+        scheduler.advance(100);
+        controller.end();
+        scheduler.advance(1000);
+
+        assertEquals(0, view.shows);
+        assertEquals(0, controller.getShownCount());
+        assertEquals(1, controller.getSuppressedCount());
+    }
+
+    @Test
+    public void slowOperation_showsAfterTheGraceDelay() {
+        controller.begin("Carregando");
+        scheduler.advance(299);
+        assertEquals(0, view.shows);
+        scheduler.advance(1);
+
+        assertEquals(1, view.shows);
+        assertEquals("Carregando", view.message);
+        assertTrue(controller.isShowing());
+    }
+
+    @Test
+    public void shownDialog_staysForTheMinimumTime() {
+        controller.begin("Carregando");
+        scheduler.advance(300);
+        scheduler.advance(100);
+        controller.end();
+
+        assertEquals(0, view.dismisses);
+        scheduler.advance(399);
+        assertEquals(0, view.dismisses);
+        scheduler.advance(1);
+        assertEquals(1, view.dismisses);
+        assertFalse(controller.isShowing());
+    }
+
+    @Test
+    public void concurrentOperations_areReferenceCounted() {
+        controller.begin("Primeira");
+        controller.begin("Segunda");
+        scheduler.advance(300);
+        assertEquals("Segunda", view.message);
+
+        controller.end();
+        scheduler.advance(1000);
+        assertTrue(controller.isShowing());
+        assertEquals(1, controller.getOperationCount());
+
+        controller.end();
+        assertEquals(1, view.dismisses);
+        assertEquals(1, view.shows);
+    }
+
+    @Test
+    public void newOperationWhileHiding_keepsTheDialog() {
+        controller.begin("Carregando");
+        scheduler.advance(300);
+        controller.end();
+        scheduler.advance(100);
+        controller.begin("Salvando");
+        scheduler.advance(1000);
+
+        assertEquals(0, view.dismisses);
+        assertEquals(1, view.shows);
+        assertEquals("Salvando", view.message);
+    }
+
+    @Test
+    public void release_dismissesAndCancelsPendingWork() {
+        controller.begin("Carregando");
+        scheduler.advance(300);
+        controller.begin("Outra");
+        controller.release();
+        scheduler.advance(1000);
+
+        assertEquals(1, view.dismisses);
+        assertEquals(0, controller.getOperationCount());
+        controller.end();
+        assertEquals(1, view.dismisses);
+    }
+
+    @Test
+    public void finishingActivity_isNotCountedAsShown() {
+        view.finishing = true;
+        controller.begin("Carregando");
+        scheduler.advance(300);
+
+        assertFalse(controller.isShowing());
+        assertEquals(0, controller.getShownCount());
+        controller.end();
+        scheduler.advance(1000);
+        assertEquals(0, view.dismisses);
+
+        // a próxima operação tenta de novo
+        view.finishing = false;
+        controller.begin("Salvando");
+        scheduler.advance(300);
+        assertTrue(controller.isShowing());
+        assertEquals(1, controller.getShownCount());
+    }
+
+    private static final class FakeView implements ProgressController.ProgressView {
+        int shows;
+        int dismisses;
+        String message;
+        boolean finishing;
+
+        @Override
+        public boolean show(String message) {
+            if (finishing)
+                return false;
+            shows++;
+            this.message = message;
+            return true;
+        }
+
+        @Override
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public void dismiss() {
+            dismisses++;
+        }
+    }
+
+    private static final class FakeScheduler implements ProgressController.Scheduler {
+        final List<Message> posted = new ArrayList<>();
+        long now;
+
+        @Override
+        public void postDelayed(Runnable runnable, long delayMillis) {
+            posted.add(new Message(now + delayMillis, runnable));
+        }
+
+        @Override
+        public void removeCallbacks(Runnable runnable) {
+            Iterator<Message> it = posted.iterator();
+            while (it.hasNext()) {
+                if (it.next().runnable == runnable)
+                    it.remove();
+            }
+        }
+
+        @Override
+        public long uptimeMillis() {
+            return now;
+        }
+
+        void advance(long millis) {
+            now += millis;
+            List<Runnable> due = new ArrayList<>();
+            Iterator<Message> it = posted.iterator();
+            while (it.hasNext()) {
+                Message message = it.next();
+                if (message.when <= now) {
+                    due.add(message.runnable);
+                    it.remove();
+                }
+            }
+            for (Runnable runnable : due) {
+                runnable.run();
+            }
+        }
+    }
+
+    private static final class Message {
+        final long when;
+        final Runnable runnable;
+
+        Message(long when, Runnable runnable) {
+            this.when = when;
+            this.runnable = runnable;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.worksit.app.commons.masks;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.Assert.*;
+
+/**
+ * Cost per keystroke of {@link MaskEngine} against a String based reformat (strip the
+ * literals, rebuild the mask with a StringBuilder), typing a mobile number digit by digit.
+ *
+ * Skipped unless run with -Pbenchmark=true.
+ */
+public class MaskEngineBenchmark {
+
+    private static final String DIGITS = "11934567890";
+    private static final int ROUNDS = 200000;
+
+    @Test
+    public void engineVsStrings() {
+        Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+
+        MaskEngine engine = MaskEngine.compile("(##) ####-####", "(##) #####-####");
+        StringBuilder text = new StringBuilder(16);
+
+        engine(engine, text, ROUNDS / 10);
+        strings(ROUNDS / 10);
+
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        int engineCheck = engine(engine, text, ROUNDS);
+        long engineNanos = System.nanoTime() - start;
+        long engineBytes = allocatedBytes() - allocated;
+
+        allocated = allocatedBytes();
+        start = System.nanoTime();
+        int stringsCheck = strings(ROUNDS);
+        long stringsNanos = System.nanoTime() - start;
+        long stringsBytes = allocatedBytes() - allocated;
+
+        long keystrokes = (long) ROUNDS * DIGITS.length();
+        System.out.println(String.format("MaskEngineBenchmark engine : %.0f ns/keystroke, %d bytes/keystroke",
+                (double) engineNanos / keystrokes, engineBytes / keystrokes));
+        System.out.println(String.format("MaskEngineBenchmark strings: %.0f ns/keystroke, %d bytes/keystroke",
+                (double) stringsNanos / keystrokes, stringsBytes / keystrokes));
+
+        assertEquals(stringsCheck, engineCheck);
+        if (engineBytes >= 0 && stringsBytes > 0)
+            assertTrue(engineBytes < stringsBytes);
+    }
+
+    private static int engine(MaskEngine engine, StringBuilder text, int rounds) {
+        int check = 0;
+        for (int round = 0; round < rounds; round++) {
+            text.setLength(0);
+            for (int i = 0; i < DIGITS.length(); i++) {
+                text.append(DIGITS.charAt(i));
+                check += engine.apply(text, text.length(), false);
+                CharSequence out = engine.output();
+                text.setLength(0);
+                text.append(out);
+            }
+        }
+        return check;
+    }
+
+    private static int strings(int rounds) {
+        int check = 0;
+        for (int round = 0; round < rounds; round++) {
+            String text = "";
+            for (int i = 0; i < DIGITS.length(); i++) {
+                text = reformat(text + DIGITS.charAt(i));
+                check += text.length();
+            }
+        }
+        return check;
+    }
+
+    private static String reformat(String text) {
+        String digits = text.replaceAll("[^0-9]", "");
+        String mask = digits.length() > 10 ? "(##) #####-####" : "(##) ####-####";
+        StringBuilder sb = new StringBuilder();
+        int d = 0;
+        for (int i = 0; i < mask.length() && d < digits.length(); i++) {
+            sb.append(mask.charAt(i) == '#' ? digits.charAt(d++) : mask.charAt(i));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Bytes allocated by this thread, -1 when the JVM does not tell.
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean)
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        return -1;
+    }
+}
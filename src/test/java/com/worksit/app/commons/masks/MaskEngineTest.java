@@ -0,0 +1,82 @@
+package com.worksit.app.commons.masks;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MaskEngineTest {
+
+    private final MaskEngine phone = MaskEngine.compile("(##) #####-####", "(##) ####-####");
+
+    @Test
+    public void typing_addsLiteralsOnlyBeforeTypedChars() {
+        MaskEngine cep = MaskEngine.compile("#####-###");
+        StringBuilder text = new StringBuilder();
+        String[] expected = {"0", "01", "010", "0100", "01001", "01001-0", "01001-00", "01001-000"};
+
+        for (int i = 0; i < 8; i++) {
+            text.append("01001000".charAt(i));
+            int cursor = cep.apply(text, text.length(), false);
+            text.setLength(0);
+            text.append(cep.output());
+            assertEquals(expected[i], text.toString());
+            assertEquals(text.length(), cursor);
+        }
+    }
+
+    @Test
+    public void paste_isFormattedAtOnce() {
+        assertEquals("123.456.789-09", MaskEngine.compile("###.###.###-##").format("12345678909"));
+        assertEquals("123.456.789-09", MaskEngine.compile("###.###.###-##").format(" 123 456 789 09 "));
+        assertEquals("01001-000", MaskEngine.compile("#####-###").format("010010001234"));
+    }
+
+    @Test
+    public void alternatives_followTheNumberOfTypedChars() {
+        assertEquals("(11) 3456-7890", phone.format("1134567890"));
+        assertEquals("(11) 93456-7890", phone.format("11934567890"));
+        assertTrue(phone.isComplete("(11) 3456-7890"));
+        assertFalse(phone.isComplete("(11) 3456-789"));
+
+        MaskEngine document = MaskEngine.compile("###.###.###-##", "##.###.###/####-##");
+        assertEquals("123.456.789-09", document.format("12345678909"));
+        assertEquals("12.345.678/0001-95", document.format("12345678000195"));
+    }
+
+    @Test
+    public void editInTheMiddle_keepsTheCursorAfterTheSameChar() {
+        // "(11) 3456-7890" com um 9 digitado depois do "(11) "
+        String edited = "(11) 93456-7890";
+        int cursor = phone.apply(edited, 6, false);
+
+        assertEquals("(11) 93456-7890", phone.output().toString());
+        assertEquals(6, cursor);
+
+        // remoção do 5: "(11) 346-7890", cursor antes do 6
+        cursor = phone.apply("(11) 346-7890", 7, false);
+        assertEquals("(11) 3467-890", phone.output().toString());
+        assertEquals(7, cursor);
+    }
+
+    @Test
+    public void backspaceOverALiteral_removesTheCharBeforeIt() {
+        MaskEngine cep = MaskEngine.compile("#####-###");
+        // backspace apagou o '-' de "01001-0": o cursor está logo após o último 1
+        int cursor = cep.apply("010010", 5, true);
+
+        assertEquals("01000", cep.output().toString());
+        assertEquals(4, cursor);
+    }
+
+    @Test
+    public void unmask_returnsTheTypedChars() {
+        assertEquals("11934567890", phone.unmask("(11) 93456-7890"));
+        assertEquals("ABCD123", MaskEngine.compile("AAA-*###").unmask("ABC-D123"));
+    }
+
+    @Test
+    public void letterSlots_rejectDigits() {
+        MaskEngine plate = MaskEngine.compile("AAA-####");
+        assertEquals("ABC-1234", plate.format("A1BC1234"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.worksit.app.commons.metrics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+public class MetricsTest {
+
+    @Before
+    public void setUp() {
+        Metrics.reset();
+        Metrics.setEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        Metrics.setEnabled(false);
+        Metrics.setExporter(null);
+        Metrics.reset();
+    }
+
+    @Test
+    public void counter_sumsUpdatesFromManyThreads() throws Exception {
+        final Counter counter = Metrics.counter("test.concurrent");
+        assertSame(counter, Metrics.counter("test.concurrent"));
+
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    }
+                    catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 100000; i++) {
+                        counter.inc();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(800000, counter.get());
+    }
+
+    @Test
+    public void disabled_dropsUpdatesAndSkipsTheClock() {
+        Counter counter = Metrics.counter("test.disabled");
+        Histogram histogram = Metrics.histogram("test.disabled.us");
+        Metrics.setEnabled(false);
+
+        counter.add(5);
+        histogram.record(100);
+        long start = Metrics.start();
+        histogram.recordSince(start);
+
+        assertEquals(0, start);
+        assertEquals(0, counter.get());
+        assertEquals(0, histogram.snapshot().getCount());
+    }
+
+    @Test
+    public void histogram_bucketsByPowerOfTwo() {
+        Histogram histogram = Metrics.histogram("test.latency.us");
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-3);
+
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(101, snapshot.getCount());
+        assertEquals(5050, snapshot.getSum());
+        assertEquals(100, snapshot.getMax());
+        assertEquals(63, snapshot.getPercentile(0.5));
+        assertEquals(100, snapshot.getPercentile(0.99));
+        assertEquals(0, snapshot.getPercentile(0));
+
+        assertEquals(0, Histogram.bucketOf(0));
+        assertEquals(1, Histogram.bucketOf(1));
+        assertEquals(2, Histogram.bucketOf(3));
+        assertEquals(63, Histogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void snapshot_dumpsTextAndJson() {
+        Metrics.counter("test.dump.loads").add(3);
+        Metrics.histogram("test.dump.\"time\".us").record(10);
+
+        MetricsSnapshot snapshot = Metrics.snapshot();
+        assertEquals(3, snapshot.getCounter("test.dump.loads"));
+        assertEquals(0, snapshot.getCounter("test.dump.missing"));
+
+        assertTrue(snapshot.toString().contains("test.dump.loads 3\n"));
+        assertTrue(snapshot.toString().contains("test.dump.\"time\".us count=1 mean=10.0 p50=10 p90=10 p99=10 max=10\n"));
+
+        String json = snapshot.toJson();
+        assertTrue(json.startsWith("{\"time\":"));
+        assertTrue(json.contains("\"test.dump.loads\":3"));
+        assertTrue(json.contains("\"test.dump.\\\"time\\\".us\":{\"count\":1,\"sum\":10,\"mean\":10.0,\"p50\":10,\"p90\":10,\"p99\":10,\"max\":10}"));
+        assertTrue(json.endsWith("}}"));
+    }
+
+    @Test
+    public void export_handsTheSnapshotToTheExporter() {
+        final List<MetricsSnapshot> exported = new ArrayList<>();
+        Metrics.setExporter(new MetricsExporter() {
+            @Override
+            public void export(MetricsSnapshot snapshot) {
+                exported.add(snapshot);
+            }
+        });
+        Metrics.counter("test.export").inc();
+
+        MetricsSnapshot snapshot = Metrics.export();
+        assertEquals(1, exported.size());
+        assertSame(snapshot, exported.get(0));
+        assertEquals(1, snapshot.getCounter("test.export"));
+    }
+}
@@ -0,0 +1,244 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.BlockingCallback;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CachingRequestExecutorTest {
+
+    private StubHttpServer server;
+    private RequestExecutor executor;
+    private File dir;
+    private final AtomicInteger version = new AtomicInteger(1);
+    private volatile String lastIfNoneMatch;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("http-cache", "");
+        dir.delete();
+
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                String etag = "\"v" + version.get() + "\"";
+                lastIfNoneMatch = request.header("If-None-Match");
+                if (request.path.startsWith("/nostore"))
+                    return StubHttpServer.StubResponse.ok("private").header("Cache-Control", "No-Store");
+                if (etag.equals(lastIfNoneMatch))
+                    return StubHttpServer.StubResponse.status(304).header("ETag", etag);
+                return StubHttpServer.StubResponse.ok(request.method + " " + request.path + " " + etag).header("ETag", etag);
+            }
+        });
+        executor = new RequestExecutor();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdown();
+        server.close();
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void freshEntry_isServedWithoutNetwork() throws Exception {
+        CachingRequestExecutor caching = caching(new ResponseCache(dir, 1024, 1024), 60000);
+
+        assertEquals("GET /a \"v1\"", fetch(caching, "/a").getBodyAsString());
+        assertEquals("GET /a \"v1\"", fetch(caching, "/a").getBodyAsString());
+        assertEquals("GET /b \"v1\"", fetch(caching, "/b").getBodyAsString());
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals(3, caching.getRequestCount());
+        assertEquals(1, caching.getFreshHitCount());
+        assertEquals(2, caching.getNetworkCount());
+        assertEquals(1, caching.getCache().getMemoryHitCount());
+    }
+
+    @Test
+    public void expiredEntry_isRevalidatedAnd304ServesCachedBody() throws Exception {
+        ResponseCache cache = new ResponseCache(dir, 1024, 1024);
+        CachingRequestExecutor caching = caching(cache, 60000);
+
+        fetch(caching, "/a");
+        age(cache, "/a", 120000);
+
+        Response revalidated = fetch(caching, "/a");
+
+        assertEquals("GET /a \"v1\"", revalidated.getBodyAsString());
+        assertEquals(200, revalidated.getCode());
+        assertEquals("\"v1\"", lastIfNoneMatch);
+        assertEquals(1, caching.getNotModifiedCount());
+        assertEquals(2, server.getRequestCount());
+
+        // o 304 renovou a entrada: a próxima chamada não vai à rede
+        fetch(caching, "/a");
+        assertEquals(2, server.getRequestCount());
+        assertEquals(1, caching.getFreshHitCount());
+    }
+
+    @Test
+    public void expiredEntry_isReplacedWhenResourceChanged() throws Exception {
+        ResponseCache cache = new ResponseCache(dir, 1024, 1024);
+        CachingRequestExecutor caching = caching(cache, 60000);
+
+        fetch(caching, "/a");
+        age(cache, "/a", 120000);
+        version.set(2);
+
+        assertEquals("GET /a \"v2\"", fetch(caching, "/a").getBodyAsString());
+        assertEquals(0, caching.getNotModifiedCount());
+        assertEquals("GET /a \"v2\"", fetch(caching, "/a").getBodyAsString());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void staleEntry_isDeliveredAndRevalidatedInBackground() throws Exception {
+        ResponseCache cache = new ResponseCache(dir, 1024, 1024);
+        CachingRequestExecutor caching = new CachingRequestExecutor(executor, cache, 60000, 60000);
+
+        fetch(caching, "/a");
+        age(cache, "/a", 90000);
+        version.set(2);
+
+        assertEquals("GET /a \"v1\"", fetch(caching, "/a").getBodyAsString());
+        assertEquals(1, caching.getStaleHitCount());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!"GET /a \"v2\"".equals(bodyInMemory(cache, "/a")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("GET /a \"v2\"", fetch(caching, "/a").getBodyAsString());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void noStore_isNotCached() throws Exception {
+        CachingRequestExecutor caching = caching(new ResponseCache(dir, 1024, 1024), 60000);
+
+        fetch(caching, "/nostore");
+        fetch(caching, "/nostore");
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals(0, caching.getFreshHitCount());
+    }
+
+    @Test
+    public void reopenedCache_servesFromDisk() throws Exception {
+        fetch(caching(new ResponseCache(dir, 1024, 1024), 60000), "/a");
+
+        ResponseCache reopened = new ResponseCache(dir, 1024, 1024);
+        CachingRequestExecutor caching = caching(reopened, 60000);
+
+        assertEquals("GET /a \"v1\"", fetch(caching, "/a").getBodyAsString());
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1, reopened.getDiskHitCount());
+    }
+
+    @Test
+    public void post_bypassesCache() throws Exception {
+        CachingRequestExecutor caching = caching(new ResponseCache(dir, 1024, 1024), 60000);
+
+        RequestParams params = params("/a");
+        params.setMethod("POST");
+        for (int i = 0; i < 2; i++) {
+            BlockingCallback<Response> callback = new BlockingCallback<>();
+            caching.execute(params, callback);
+            assertTrue(callback.await(5000));
+            assertEquals("POST /a \"v1\"", callback.getData().getBodyAsString());
+        }
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals(0, caching.getRequestCount());
+    }
+
+    @Test
+    public void shutdown_stopsCacheThreadAndExecutor() throws Exception {
+        CachingRequestExecutor caching = caching(new ResponseCache(dir, 1024, 1024), 60000);
+        fetch(caching, "/a");
+
+        caching.shutdown();
+
+        // a entrada em memória continua servida, o resto é rejeitado
+        assertEquals("GET /a \"v1\"", fetch(caching, "/a").getBodyAsString());
+        BlockingCallback<Response> disk = new BlockingCallback<>();
+        caching.execute(params("/b"), disk);
+        assertTrue(disk.getError() instanceof RejectedExecutionException);
+
+        BlockingCallback<Response> direct = new BlockingCallback<>();
+        executor.execute(params("/b"), direct);
+        assertTrue(direct.getError() instanceof RejectedExecutionException);
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void cacheKey_sortsParametersAndIgnoresLocale() {
+        Map<String, Object> ab = new LinkedHashMap<>();
+        ab.put("a", 1);
+        ab.put("b", "x y");
+        Map<String, Object> ba = new LinkedHashMap<>();
+        ba.put("b", "x y");
+        ba.put("a", 1);
+
+        RequestParams first = params("/items");
+        first.setQueriesMap(ab);
+        RequestParams second = params("/items");
+        second.setQueriesMap(ba);
+        assertEquals(CacheKey.of(first), CacheKey.of(second));
+
+        Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            first.setMethod("get");
+            assertTrue(CacheKey.of(first).startsWith("GET "));
+        }
+        finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    private CachingRequestExecutor caching(ResponseCache cache, long maxAgeMillis) {
+        return new CachingRequestExecutor(executor, cache, maxAgeMillis, 0);
+    }
+
+    private Response fetch(CachingRequestExecutor caching, String path) throws InterruptedException {
+        BlockingCallback<Response> callback = new BlockingCallback<>();
+        caching.execute(params(path), callback);
+        assertTrue(callback.await(5000));
+        assertNull(callback.getError());
+        return callback.getData();
+    }
+
+    private void age(ResponseCache cache, String path, long millis) {
+        ResponseCache.Entry entry = cache.peekMemory(CacheKey.of(params(path)));
+        entry.storedAt -= millis;
+    }
+
+    private String bodyInMemory(ResponseCache cache, String path) {
+        ResponseCache.Entry entry = cache.peekMemory(CacheKey.of(params(path)));
+        return entry == null ? null : entry.toResponse().getBodyAsString();
+    }
+
+    private RequestParams params(String path) {
+        RequestParams params = new RequestParams();
+        params.setUrl(server.url(path));
+        return params;
+    }
+}
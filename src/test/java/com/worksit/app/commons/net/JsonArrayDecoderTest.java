@@ -0,0 +1,244 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.StreamingCallback;
+
+import org.junit.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+public class JsonArrayDecoderTest {
+
+    private static final JsonArrayDecoder.ItemParser<String> RAW = new JsonArrayDecoder.ItemParser<String>() {
+        @Override
+        public String parse(String json) {
+            return json;
+        }
+    };
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private static final JsonArrayDecoder.ItemParser<Integer> ID_PARSER = new JsonArrayDecoder.ItemParser<Integer>() {
+        @Override
+        public Integer parse(String json) {
+            Matcher m = ID.matcher(json);
+            assertTrue(json, m.find());
+            return Integer.valueOf(m.group(1));
+        }
+    };
+
+    @Test
+    public void feedFixture_deliversItemsInBatches() throws Exception {
+        Recorder<Integer> recorder = new Recorder<>();
+        int count = new JsonArrayDecoder<>(ID_PARSER, 2, 1024).decode(fixture("feed.json"), recorder);
+
+        assertEquals(5, count);
+        assertEquals(5, recorder.completedCount);
+        assertEquals(3, recorder.batches.size());
+        assertEquals(2, recorder.batches.get(0).size());
+        assertEquals(1, recorder.batches.get(2).size());
+        assertEquals(list(1, 2, 3, 4, 5), recorder.items());
+    }
+
+    @Test
+    public void feedFixture_keepsElementTextIntact() throws Exception {
+        Recorder<String> recorder = new Recorder<>();
+        new JsonArrayDecoder<>(RAW).decode(fixture("feed.json"), recorder);
+
+        List<String> items = recorder.items();
+        assertTrue(items.get(0).startsWith("{") && items.get(0).endsWith("}"));
+        assertTrue(items.get(0).contains("Promoção [relâmpago], hoje"));
+        assertTrue(items.get(0).contains("{\"nested\": [1, 2, 3]}"));
+        assertEquals("{\"id\": 2, \"title\": \"Aspas \\\"escapadas\\\" e barra \\\\\", \"tags\": [], \"price\": 0}", items.get(1));
+        assertTrue(items.get(2).contains("Chaves } e colchetes ] dentro de texto"));
+    }
+
+    @Test
+    public void scalarsFixture() throws Exception {
+        Recorder<String> recorder = new Recorder<>();
+        new JsonArrayDecoder<>(RAW).decode(fixture("scalars.json"), recorder);
+
+        assertEquals(list("1", "\"a,b\"", "true", "null", "-0.5e-3", "\"]\""), recorder.items());
+    }
+
+    @Test
+    public void emptyFixture() throws Exception {
+        Recorder<String> recorder = new Recorder<>();
+        assertEquals(0, new JsonArrayDecoder<>(RAW).decode(fixture("empty.json"), recorder));
+
+        assertTrue(recorder.batches.isEmpty());
+        assertEquals(0, recorder.completedCount);
+    }
+
+    @Test
+    public void truncatedFixture_failsAfterDeliveringCompleteItems() throws Exception {
+        Recorder<Integer> recorder = new Recorder<>();
+        try {
+            new JsonArrayDecoder<>(ID_PARSER, 1, 1024).decode(fixture("truncated.json"), recorder);
+            fail();
+        } catch (EOFException expected) {
+            // ok
+        }
+        assertEquals(list(1), recorder.items());
+        assertEquals(-1, recorder.completedCount);
+    }
+
+    @Test(expected = IOException.class)
+    public void oversizedItem_isRejected() throws Exception {
+        new JsonArrayDecoder<>(RAW, 10, 16).decode(fixture("feed.json"), new Recorder<String>());
+    }
+
+    @Test
+    public void malformedArrays_areRejected() throws Exception {
+        String[] malformed = {
+                "[\"a\" \"b\"]",
+                "[1 2]",
+                "[\"a\"1]",
+                "[1\"a\"]",
+                "[{} {}]",
+                "[{\"a\": [1, 2}]",
+                "[[1, {\"a\": 2]]]",
+                "[{\"a\": 1]]",
+                "[1}]",
+                "[1,]",
+                "[,1]",
+        };
+
+        for (String json : malformed) {
+            try {
+                new JsonArrayDecoder<>(RAW).decode(new StringReader(json), new Recorder<String>());
+                fail(json);
+            } catch (EOFException e) {
+                fail(json + ": " + e);
+            } catch (IOException expected) {
+                // ok
+            }
+        }
+    }
+
+    @Test
+    public void whitespaceAroundItems_isNotPartOfTheItem() throws Exception {
+        Recorder<String> recorder = new Recorder<>();
+        new JsonArrayDecoder<>(RAW).decode(new StringReader("[ 1 ,\n\"x\"\t, { \"a\" : [ ] } ]"), recorder);
+
+        assertEquals(list("1", "\"x\"", "{ \"a\" : [ ] }"), recorder.items());
+    }
+
+    @Test
+    public void largeStream_isDecodedWithBoundedBuffering() throws Exception {
+        final int items = 60000;
+        Reader feed = new GeneratedFeed(items);
+
+        final int[] delivered = new int[1];
+        final int[] maxBatch = new int[1];
+        int count = new JsonArrayDecoder<>(ID_PARSER, 100, 512).decode(feed, new StreamingCallback<Integer>() {
+            @Override
+            public void onBatch(List<Integer> batch) {
+                assertEquals(Integer.valueOf(delivered[0]), batch.get(0));
+                delivered[0] += batch.size();
+                maxBatch[0] = Math.max(maxBatch[0], batch.size());
+            }
+
+            @Override
+            public void onComplete(int count) {
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                fail(ex.toString());
+            }
+        });
+
+        assertEquals(items, count);
+        assertEquals(items, delivered[0]);
+        assertEquals(100, maxBatch[0]);
+    }
+
+    private Reader fixture(String name) {
+        return new InputStreamReader(getClass().getResourceAsStream("/fixtures/" + name), Charset.forName("UTF-8"));
+    }
+
+    @SafeVarargs
+    private static <T> List<T> list(T... values) {
+        List<T> list = new ArrayList<>();
+        for (T v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    static class Recorder<T> implements StreamingCallback<T> {
+        final List<List<T>> batches = new ArrayList<>();
+        int completedCount = -1;
+
+        @Override
+        public void onBatch(List<T> items) {
+            batches.add(items);
+        }
+
+        @Override
+        public void onComplete(int count) {
+            completedCount = count;
+        }
+
+        @Override
+        public void onError(Exception ex) {
+            fail(ex.toString());
+        }
+
+        List<T> items() {
+            List<T> all = new ArrayList<>();
+            for (List<T> b : batches) {
+                all.addAll(b);
+            }
+            return all;
+        }
+    }
+
+    /**
+     * ~6 MB JSON array produced on the fly, never held in memory.
+     */
+    static class GeneratedFeed extends Reader {
+        private final int items;
+        private int next;
+        private String pending = "[";
+        private int offset;
+
+        GeneratedFeed(int items) {
+            this.items = items;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (offset == pending.length()) {
+                if (next > items)
+                    return -1;
+                pending = next == items ? "]"
+                        : (next == 0 ? "" : ",\n") + "{\"id\": " + next + ", \"name\": \"item " + next
+                        + "\", \"payload\": \"" + PAYLOAD + "\", \"values\": [1, 2, {\"x\": \"]}\"}]}";
+                next++;
+                offset = 0;
+            }
+            int n = Math.min(len, pending.length() - offset);
+            pending.getChars(offset, offset + n, cbuf, off);
+            offset += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static final String PAYLOAD = "lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod";
+    }
+}
@@ -0,0 +1,148 @@
+package com.worksit.app.commons.net;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ParamBagTest {
+
+    @Test
+    public void keepsInsertionOrder_andReplacesInPlace() {
+        ParamBag bag = new ParamBag(1)
+                .put("z", 1)
+                .put("a", "x")
+                .put("m", true)
+                .put("a", 2L);
+
+        assertEquals(3, bag.size());
+        assertEquals("z", bag.nameAt(0));
+        assertEquals("a", bag.nameAt(1));
+        assertEquals("m", bag.nameAt(2));
+        assertEquals(2L, bag.get("a"));
+
+        bag.remove("z").put("m", (String) null);
+        assertEquals(1, bag.size());
+        assertEquals("a", bag.nameAt(0));
+        assertFalse(bag.contains("m"));
+    }
+
+    @Test
+    public void fromMapAndToMap_roundTrip() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("int", 7);
+        map.put("long", 1L << 40);
+        map.put("double", 2.5);
+        map.put("bool", false);
+        map.put("text", "olá");
+        map.put("skipped", null);
+
+        ParamBag bag = ParamBag.fromMap(map);
+        map.remove("skipped");
+
+        assertEquals(map, bag.toMap());
+        assertArrayEquals(map.keySet().toArray(), bag.toMap().keySet().toArray());
+        assertEquals(map, ParamBag.fromMap(bag.toMap()).toMap());
+    }
+
+    @Test
+    public void fromMap_widensSmallNumbersAndStringifiesOthers() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("short", (short) 3);
+        map.put("float", 1.5f);
+        map.put("builder", new StringBuilder("sb"));
+
+        Map<String, Object> copy = ParamBag.fromMap(map).toMap();
+
+        assertEquals(3, copy.get("short"));
+        assertEquals("1.5", copy.get("float"));
+        assertEquals("sb", copy.get("builder"));
+    }
+
+    @Test
+    public void writeUrlEncoded_perType() {
+        ParamBag bag = new ParamBag()
+                .put("i", -12)
+                .put("l", Long.MIN_VALUE)
+                .put("d", 3.0)
+                .put("b", true)
+                .put("s", "a b&c=ç/~");
+
+        StringBuilder sb = new StringBuilder();
+        bag.writeUrlEncoded(sb);
+
+        assertEquals("i=-12&l=-9223372036854775808&d=3.0&b=true&s=a%20b%26c%3D%C3%A7%2F~", sb.toString());
+        assertEquals(sb.toString(), new String(bag.toUrlEncodedBytes(), StubHttpServer.UTF_8));
+    }
+
+    @Test
+    public void doubles_matchStringValueOf() {
+        double[] values = {0.0, -0.0, 1.0, -3.0, 0.1, 2.5e-8, 9999999.0, 1e7, -1e7, 1e300,
+                Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE};
+
+        for (double d : values) {
+            StringBuilder expected = new StringBuilder();
+            UrlEncoding.appendEncoded(expected, String.valueOf(d));
+
+            StringBuilder actual = new StringBuilder();
+            assertTrue(new ParamBag().put("d", d).appendValue(actual, "d"));
+
+            assertEquals(String.valueOf(d), expected.toString(), actual.toString());
+        }
+    }
+
+    @Test
+    public void floatsFromMap_matchMapEncoding() {
+        float[] values = {0.1f, -0.1f, 1.5f, 0.3f, -0.0f, 3.4028235e38f, 1.0e-10f, -1.1463307e20f,
+                Float.NaN, Float.POSITIVE_INFINITY, Float.MIN_VALUE};
+
+        for (float f : values) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("f", f);
+
+            StringBuilder expected = new StringBuilder();
+            UrlCompiler.appendQueries(expected, map);
+
+            StringBuilder actual = new StringBuilder();
+            ParamBag.fromMap(map).writeUrlEncoded(actual);
+
+            assertEquals(String.valueOf(f), expected.toString(), actual.toString());
+        }
+    }
+
+    @Test
+    public void negativeZero_keepsSign() {
+        StringBuilder sb = new StringBuilder();
+        new ParamBag().put("d", -0.0).writeUrlEncoded(sb);
+        assertEquals("d=-0.0", sb.toString());
+    }
+
+    @Test
+    public void writeSorted_ordersByName() {
+        ParamBag bag = new ParamBag().put("b", 2).put("c", "x").put("a", 1);
+
+        StringBuilder sb = new StringBuilder();
+        bag.writeSorted(sb);
+
+        assertEquals("a=1&b=2&c=x", sb.toString());
+    }
+
+    @Test
+    public void typedGetters() {
+        ParamBag bag = new ParamBag().put("i", 5).put("d", 2.75).put("s", "x");
+
+        assertEquals(5, bag.getLong("i", -1));
+        assertEquals(2, bag.getLong("d", -1));
+        assertEquals(-1, bag.getLong("s", -1));
+        assertEquals(5.0, bag.getDouble("i", 0), 0);
+        assertEquals("2.75", bag.getString("d"));
+        assertNull(bag.getString("missing"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void nameAt_outOfRange() {
+        new ParamBag().put("a", 1).nameAt(1);
+    }
+}
@@ -0,0 +1,251 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.BlockingCallback;
+import com.worksit.app.commons.callbacks.GenericCallback;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.*;
+
+public class PriorityRequestSchedulerTest {
+
+    private final FakeRunner runner = new FakeRunner();
+
+    @Test
+    public void dispatchesHighestPriorityFirst_fifoWithinClass() {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(runner, 1, 8);
+
+        submit(scheduler, "/running", RequestPriority.PREFETCH, null);
+        submit(scheduler, "/prefetch", RequestPriority.PREFETCH, null);
+        submit(scheduler, "/visible-1", RequestPriority.VISIBLE, null);
+        submit(scheduler, "/blocking", RequestPriority.USER_BLOCKING, null);
+        submit(scheduler, "/visible-2", RequestPriority.VISIBLE, null);
+
+        assertEquals(1, runner.calls.size());
+        for (int i = 0; i < 4; i++) {
+            runner.calls.get(i).succeed();
+        }
+
+        assertEquals(5, runner.calls.size());
+        assertEquals("/running", runner.calls.get(0).path);
+        assertEquals("/blocking", runner.calls.get(1).path);
+        assertEquals("/visible-1", runner.calls.get(2).path);
+        assertEquals("/visible-2", runner.calls.get(3).path);
+        assertEquals("/prefetch", runner.calls.get(4).path);
+        assertEquals(2, scheduler.getMaxQueueDepth(RequestPriority.VISIBLE));
+    }
+
+    @Test
+    public void fullQueue_rejectsOnCallingThread() {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(runner, 1, 1);
+        CancellationGroup group = new CancellationGroup("screen");
+
+        submit(scheduler, "/a", RequestPriority.VISIBLE, group);
+        submit(scheduler, "/b", RequestPriority.VISIBLE, group);
+        BlockingCallback<Response> rejected = new BlockingCallback<>();
+        RequestCall call = scheduler.execute(get("/c"), RequestPriority.VISIBLE, group, rejected);
+
+        assertTrue(rejected.getError() instanceof RejectedExecutionException);
+        assertTrue(call.isDone());
+        assertFalse(call.cancel());
+        assertEquals(2, group.size());
+        assertEquals(1, scheduler.getRejectedCount(RequestPriority.VISIBLE));
+        assertEquals(3, scheduler.getSubmittedCount(RequestPriority.VISIBLE));
+
+        // as outras classes têm a própria fila
+        BlockingCallback<Response> other = new BlockingCallback<>();
+        scheduler.execute(get("/d"), RequestPriority.PREFETCH, null, other);
+        assertNull(other.getError());
+        assertEquals(1, scheduler.getQueueDepth(RequestPriority.PREFETCH));
+    }
+
+    @Test
+    public void cancelledQueuedRequest_neverStarts() {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(runner, 1, 8);
+
+        submit(scheduler, "/a", RequestPriority.VISIBLE, null);
+        BlockingCallback<Response> queued = new BlockingCallback<>();
+        RequestCall call = scheduler.execute(get("/b"), RequestPriority.VISIBLE, null, queued);
+
+        assertTrue(call.cancel());
+        runner.calls.get(0).succeed();
+
+        assertEquals(1, runner.calls.size());
+        assertEquals(0, queued.getDeliveries());
+        assertEquals(0, scheduler.getQueueDepth(RequestPriority.VISIBLE));
+        assertEquals(1, scheduler.getCancelledCount(RequestPriority.VISIBLE));
+    }
+
+    @Test
+    public void cancelledRunningRequest_freesSlotAndIsNotDelivered() {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(runner, 1, 8);
+
+        BlockingCallback<Response> running = new BlockingCallback<>();
+        RequestCall call = scheduler.execute(get("/a"), RequestPriority.VISIBLE, null, running);
+        submit(scheduler, "/b", RequestPriority.VISIBLE, null);
+
+        assertTrue(call.cancel());
+
+        assertTrue(runner.calls.get(0).cancelled);
+        assertEquals(2, runner.calls.size());
+        assertEquals(1, scheduler.getInFlightCount());
+
+        // resposta atrasada do delegate
+        runner.calls.get(0).succeed();
+        assertEquals(0, running.getDeliveries());
+        assertEquals(1, scheduler.getInFlightCount());
+    }
+
+    @Test
+    public void group_cancelsQueuedAndRunning() {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(runner, 1, 8);
+        CancellationGroup group = new CancellationGroup("screen");
+
+        BlockingCallback<Response> a = submit(scheduler, "/a", RequestPriority.VISIBLE, group);
+        BlockingCallback<Response> b = submit(scheduler, "/b", RequestPriority.VISIBLE, group);
+
+        assertEquals(2, group.cancel());
+        // o cancelamento de /a libera a vaga e /b pode chegar ao delegate antes de ser cancelado
+        for (FakeCall call : runner.calls) {
+            assertTrue(call.cancelled);
+            call.succeed();
+        }
+
+        int started = runner.calls.size();
+        assertEquals(0, a.getDeliveries());
+        assertEquals(0, b.getDeliveries());
+        assertEquals(0, scheduler.getInFlightCount());
+
+        // depois de cancelado o grupo descarta os novos pedidos antes da fila
+        BlockingCallback<Response> late = submit(scheduler, "/c", RequestPriority.USER_BLOCKING, group);
+        assertEquals(started, runner.calls.size());
+        assertEquals(0, late.getDeliveries());
+        assertEquals(0, scheduler.getQueueDepth(RequestPriority.USER_BLOCKING));
+    }
+
+    @Test
+    public void completedRequest_leavesGroup() {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(runner, 2, 8);
+        CancellationGroup group = new CancellationGroup("screen");
+
+        BlockingCallback<Response> a = submit(scheduler, "/a", RequestPriority.VISIBLE, group);
+        assertEquals(1, group.size());
+
+        runner.calls.get(0).succeed();
+
+        assertEquals(1, a.getDeliveries());
+        assertEquals(0, group.size());
+        assertEquals(0, scheduler.getInFlightCount());
+    }
+
+    @Test
+    public void requestFinishedByAnotherDispatch_leavesGroup() {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(runner, 1, 8);
+        submit(scheduler, "/running", RequestPriority.VISIBLE, null);
+
+        // simula outra thread terminando /running durante a entrada de /b no grupo
+        CancellationGroup group = new CancellationGroup("screen") {
+            @Override
+            public void add(RequestCall call) {
+                runner.completeImmediately = true;
+                runner.calls.get(0).succeed();
+                super.add(call);
+            }
+        };
+        BlockingCallback<Response> b = submit(scheduler, "/b", RequestPriority.VISIBLE, group);
+
+        assertEquals(1, b.getDeliveries());
+        assertEquals(0, group.size());
+        assertEquals(0, scheduler.getInFlightCount());
+    }
+
+    @Test
+    public void throwingDelegate_freesSlotAndDeliversError() {
+        PriorityRequestScheduler scheduler = new PriorityRequestScheduler(runner, 1, 8);
+        CancellationGroup group = new CancellationGroup("screen");
+        IllegalStateException failure = new IllegalStateException("executor is shut down");
+        runner.failure = failure;
+
+        BlockingCallback<Response> a = submit(scheduler, "/a", RequestPriority.VISIBLE, group);
+
+        assertSame(failure, a.getError());
+        assertEquals(1, a.getDeliveries());
+        assertEquals(0, group.size());
+        assertEquals(0, scheduler.getInFlightCount());
+
+        // a vaga foi devolvida: o próximo pedido chega ao delegate
+        runner.failure = null;
+        BlockingCallback<Response> b = submit(scheduler, "/b", RequestPriority.VISIBLE, group);
+        assertEquals(1, runner.calls.size());
+        runner.calls.get(0).succeed();
+        assertEquals(1, b.getDeliveries());
+        assertNull(b.getError());
+    }
+
+    private BlockingCallback<Response> submit(PriorityRequestScheduler scheduler, String path, RequestPriority priority, CancellationGroup group) {
+        BlockingCallback<Response> callback = new BlockingCallback<>();
+        scheduler.execute(get(path), priority, group, callback);
+        return callback;
+    }
+
+    private static RequestParams get(String path) {
+        RequestParams params = new RequestParams();
+        params.setUrl(path);
+        return params;
+    }
+
+    /**
+     * Records the dispatched requests; the test completes them by hand.
+     */
+    private static final class FakeRunner implements RequestRunner {
+        final List<FakeCall> calls = new ArrayList<>();
+        boolean completeImmediately;
+        RuntimeException failure;
+
+        @Override
+        public RequestCall execute(RequestParams params, GenericCallback<Response> callback) {
+            if (failure != null)
+                throw failure;
+            FakeCall call = new FakeCall(params.getUrl(), callback);
+            calls.add(call);
+            if (completeImmediately)
+                call.succeed();
+            return call;
+        }
+    }
+
+    private static final class FakeCall implements RequestCall {
+        final String path;
+        final GenericCallback<Response> callback;
+        boolean cancelled;
+
+        FakeCall(String path, GenericCallback<Response> callback) {
+            this.path = path;
+            this.callback = callback;
+        }
+
+        void succeed() {
+            callback.onSuccess(new Response(path, 200, null, null));
+        }
+
+        @Override
+        public boolean cancel() {
+            cancelled = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled;
+        }
+    }
+}
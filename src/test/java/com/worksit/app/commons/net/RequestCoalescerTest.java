@@ -0,0 +1,172 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.BlockingCallback;
+import com.worksit.app.commons.callbacks.GenericCallback;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RequestCoalescerTest {
+
+    private final FakeRunner runner = new FakeRunner();
+    private final RequestCoalescer coalescer = new RequestCoalescer(runner);
+
+    @Test
+    public void identicalRequests_shareOneExecution() {
+        BlockingCallback<Response> a = new BlockingCallback<>();
+        BlockingCallback<Response> b = new BlockingCallback<>();
+        BlockingCallback<Response> c = new BlockingCallback<>();
+        coalescer.execute(get("/items"), a);
+        coalescer.execute(get("/items"), b);
+        coalescer.execute(get("/items"), c);
+
+        assertEquals(1, runner.calls.size());
+        assertEquals(1, coalescer.getInFlightCount());
+
+        Response response = new Response("/items", 200, null, new byte[]{1});
+        runner.calls.get(0).callback.onSuccess(response);
+
+        assertSame(response, a.getData());
+        assertSame(response, b.getData());
+        assertSame(response, c.getData());
+        assertEquals(1, coalescer.getExecutedCount());
+        assertEquals(2, coalescer.getCoalescedCount());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    public void differentRequests_andPosts_areNotCoalesced() {
+        coalescer.execute(get("/a"), new BlockingCallback<Response>());
+        coalescer.execute(get("/b"), new BlockingCallback<Response>());
+        RequestParams post = get("/a");
+        post.setMethod("POST");
+        coalescer.execute(post, new BlockingCallback<Response>());
+        coalescer.execute(post, new BlockingCallback<Response>());
+
+        assertEquals(4, runner.calls.size());
+        assertEquals(4, coalescer.getExecutedCount());
+        assertEquals(0, coalescer.getCoalescedCount());
+        assertEquals(2, coalescer.getInFlightCount());
+    }
+
+    @Test
+    public void error_isDeliveredToEveryCaller() {
+        BlockingCallback<Response> a = new BlockingCallback<>();
+        BlockingCallback<Response> b = new BlockingCallback<>();
+        RequestCall callA = coalescer.execute(get("/items"), a);
+        RequestCall callB = coalescer.execute(get("/items"), b);
+
+        IOException error = new IOException("offline");
+        runner.calls.get(0).callback.onError(error);
+
+        assertSame(error, a.getError());
+        assertSame(error, b.getError());
+        assertEquals(1, a.getDeliveries());
+        assertEquals(1, b.getDeliveries());
+        assertTrue(callA.isDone());
+        assertFalse(callB.cancel());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    public void completedKey_runsAgain() {
+        coalescer.execute(get("/items"), new BlockingCallback<Response>());
+        runner.calls.get(0).callback.onSuccess(new Response("/items", 200, null, null));
+
+        coalescer.execute(get("/items"), new BlockingCallback<Response>());
+
+        assertEquals(2, runner.calls.size());
+        assertEquals(2, coalescer.getExecutedCount());
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void cancellingOneCaller_keepsSharedRequest() {
+        BlockingCallback<Response> a = new BlockingCallback<>();
+        BlockingCallback<Response> b = new BlockingCallback<>();
+        RequestCall callA = coalescer.execute(get("/items"), a);
+        coalescer.execute(get("/items"), b);
+
+        assertTrue(callA.cancel());
+        assertTrue(callA.isCancelled());
+        assertFalse(runner.calls.get(0).cancelled);
+
+        runner.calls.get(0).callback.onSuccess(new Response("/items", 200, null, null));
+        assertEquals(0, a.getDeliveries());
+        assertEquals(1, b.getDeliveries());
+    }
+
+    @Test
+    public void cancellingEveryCaller_cancelsSharedRequestAndFreesKey() {
+        BlockingCallback<Response> a = new BlockingCallback<>();
+        BlockingCallback<Response> b = new BlockingCallback<>();
+        RequestCall callA = coalescer.execute(get("/items"), a);
+        RequestCall callB = coalescer.execute(get("/items"), b);
+
+        callA.cancel();
+        callB.cancel();
+
+        assertTrue(runner.calls.get(0).cancelled);
+        assertEquals(0, coalescer.getInFlightCount());
+
+        // um novo pedido não se junta ao voo cancelado
+        BlockingCallback<Response> c = new BlockingCallback<>();
+        coalescer.execute(get("/items"), c);
+        assertEquals(2, runner.calls.size());
+
+        runner.calls.get(1).callback.onSuccess(new Response("/items", 200, null, null));
+        assertEquals(0, a.getDeliveries());
+        assertEquals(0, b.getDeliveries());
+        assertEquals(1, c.getDeliveries());
+    }
+
+    private static RequestParams get(String path) {
+        RequestParams params = new RequestParams();
+        params.setUrl("http://localhost" + path);
+        return params;
+    }
+
+    /**
+     * Records the requests; the test completes them through the recorded callbacks.
+     */
+    private static final class FakeRunner implements RequestRunner {
+        final List<FakeCall> calls = new ArrayList<>();
+
+        @Override
+        public RequestCall execute(RequestParams params, GenericCallback<Response> callback) {
+            FakeCall call = new FakeCall(callback);
+            calls.add(call);
+            return call;
+        }
+    }
+
+    private static final class FakeCall implements RequestCall {
+        final GenericCallback<Response> callback;
+        boolean cancelled;
+
+        FakeCall(GenericCallback<Response> callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public boolean cancel() {
+            cancelled = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.GenericCallback;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Throughput of {@link RequestExecutor} against naive per-request connections
+ * ("Connection: close", one socket per request) on the same number of threads.
+ *
+ * Skipped unless run with -Pbenchmark=true.
+ */
+public class RequestExecutorBenchmark {
+
+    private static final int REQUESTS = 300;
+    private static final int THREADS = 4;
+
+    private StubHttpServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.ok("{\"id\":1,\"name\":\"item\"}");
+            }
+        });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (server != null)
+            server.close();
+    }
+
+    @Test
+    public void pooledVsNaive() throws Exception {
+        naive(REQUESTS / 10);
+        pooled(REQUESTS / 10);
+
+        int connectionsBefore = server.getConnectionCount();
+        long naiveNanos = naive(REQUESTS);
+        int naiveConnections = server.getConnectionCount() - connectionsBefore;
+
+        connectionsBefore = server.getConnectionCount();
+        long pooledNanos = pooled(REQUESTS);
+        int pooledConnections = server.getConnectionCount() - connectionsBefore;
+
+        System.out.println(String.format("RequestExecutorBenchmark naive : %d req in %d ms (%.0f req/s, %d connections)",
+                REQUESTS, naiveNanos / 1000000, REQUESTS * 1e9 / naiveNanos, naiveConnections));
+        System.out.println(String.format("RequestExecutorBenchmark pooled: %d req in %d ms (%.0f req/s, %d connections)",
+                REQUESTS, pooledNanos / 1000000, REQUESTS * 1e9 / pooledNanos, pooledConnections));
+
+        assertTrue(pooledConnections < naiveConnections);
+    }
+
+    private long naive(int requests) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch done = new CountDownLatch(requests);
+        final AtomicInteger errors = new AtomicInteger();
+        final String url = server.url("/naive");
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            pool.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+                        conn.setRequestProperty("Connection", "close");
+                        InputStream in = conn.getInputStream();
+                        byte[] buffer = new byte[1024];
+                        while (in.read(buffer) != -1) {
+                            // descarta
+                        }
+                        in.close();
+                        conn.disconnect();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    done.countDown();
+                }
+            });
+        }
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+        assertEquals(0, errors.get());
+        return elapsed;
+    }
+
+    private long pooled(int requests) throws Exception {
+        RequestExecutor executor = new RequestExecutor(THREADS, THREADS, requests);
+        final CountDownLatch done = new CountDownLatch(requests);
+        final AtomicInteger errors = new AtomicInteger();
+        RequestParams params = new RequestParams();
+        params.setUrl(server.url("/pooled"));
+
+        GenericCallback<Response> callback = new GenericCallback<Response>() {
+            @Override
+            public void onSuccess(Response data) {
+                done.countDown();
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                errors.incrementAndGet();
+                done.countDown();
+            }
+        };
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            executor.execute(params, callback);
+        }
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        assertEquals(0, errors.get());
+        return elapsed;
+    }
+}
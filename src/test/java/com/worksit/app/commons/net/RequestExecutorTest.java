@@ -0,0 +1,316 @@
+package com.worksit.app.commons.net;
+
+import com.worksit.app.commons.callbacks.BlockingCallback;
+import com.worksit.app.commons.callbacks.StreamingCallback;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.*;
+
+public class RequestExecutorTest {
+
+    private StubHttpServer server;
+    private RequestExecutor executor;
+
+    @After
+    public void tearDown() throws Exception {
+        if (executor != null)
+            executor.shutdown();
+        if (server != null)
+            server.close();
+    }
+
+    @Test
+    public void get_deliversBodyAndReusesConnection() throws Exception {
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.ok("hello " + request.path);
+            }
+        });
+        executor = new RequestExecutor(2, 1, 16);
+
+        for (int i = 0; i < 10; i++) {
+            BlockingCallback<Response> callback = new BlockingCallback<>();
+            executor.execute(params("/items/{id}", i), callback);
+            assertTrue(callback.await(5000));
+            assertNull(callback.getError());
+            assertEquals("hello /items/" + i, callback.getData().getBodyAsString());
+        }
+
+        assertEquals(10, server.getRequestCount());
+        assertEquals(1, server.getConnectionCount());
+    }
+
+    @Test
+    public void gzipBody_isInflated() throws Exception {
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.ok("compressed").gzip();
+            }
+        });
+        executor = new RequestExecutor();
+
+        BlockingCallback<Response> callback = new BlockingCallback<>();
+        executor.execute(params("/gz", 0), callback);
+
+        assertTrue(callback.await(5000));
+        assertEquals("compressed", callback.getData().getBodyAsString());
+    }
+
+    @Test
+    public void post_sendsFormEncodedParameters() throws Exception {
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.ok(request.method + " " + request.bodyAsString());
+            }
+        });
+        executor = new RequestExecutor();
+
+        RequestParams params = new RequestParams();
+        params.setUrl(server.url("/form"));
+        params.setMethod("POST");
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", "João Silva");
+        body.put("age", 42);
+        params.setParametersMap(body);
+
+        BlockingCallback<Response> callback = new BlockingCallback<>();
+        executor.execute(params, callback);
+
+        assertTrue(callback.await(5000));
+        assertEquals("POST name=Jo%C3%A3o%20Silva&age=42", callback.getData().getBodyAsString());
+    }
+
+    @Test
+    public void errorStatus_deliversHttpException() throws Exception {
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.status(404).body("missing");
+            }
+        });
+        executor = new RequestExecutor();
+
+        BlockingCallback<Response> callback = new BlockingCallback<>();
+        executor.execute(params("/none", 0), callback);
+
+        assertTrue(callback.await(5000));
+        assertTrue(callback.getError() instanceof HttpException);
+        HttpException ex = (HttpException) callback.getError();
+        assertEquals(404, ex.getCode());
+        assertEquals("missing", ex.getResponse().getBodyAsString());
+    }
+
+    @Test
+    public void perHostLimit_isRespected() throws Exception {
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.ok("slow").delay(50);
+            }
+        });
+        executor = new RequestExecutor(6, 2, 32);
+
+        List<BlockingCallback<Response>> callbacks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            BlockingCallback<Response> callback = new BlockingCallback<>();
+            callbacks.add(callback);
+            executor.execute(params("/slow/{id}", i), callback);
+        }
+        for (BlockingCallback<Response> callback : callbacks) {
+            assertTrue(callback.await(5000));
+            assertNull(callback.getError());
+        }
+
+        assertTrue(server.getMaxConcurrentRequests() <= 2);
+    }
+
+    @Test
+    public void fullQueue_rejectsRequest() throws Exception {
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.ok("slow").delay(200);
+            }
+        });
+        executor = new RequestExecutor(1, 1, 1);
+
+        BlockingCallback<Response> running = new BlockingCallback<>();
+        BlockingCallback<Response> queued = new BlockingCallback<>();
+        BlockingCallback<Response> rejected = new BlockingCallback<>();
+        executor.execute(params("/a/{id}", 1), running);
+        executor.execute(params("/a/{id}", 2), queued);
+        executor.execute(params("/a/{id}", 3), rejected);
+
+        assertTrue(rejected.await(1000));
+        assertTrue(rejected.getError() instanceof RejectedExecutionException);
+        assertTrue(queued.await(5000));
+        assertNull(queued.getError());
+    }
+
+    @Test
+    public void readTimeout_deliversError() throws Exception {
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.ok("late").delay(1000);
+            }
+        });
+        executor = new RequestExecutor();
+        executor.setReadTimeout(100);
+
+        BlockingCallback<Response> callback = new BlockingCallback<>();
+        executor.execute(params("/late", 0), callback);
+
+        assertTrue(callback.await(5000));
+        assertTrue(callback.getError() instanceof SocketTimeoutException);
+    }
+
+    @Test
+    public void cancelledQueuedRequest_isNeverDelivered() throws Exception {
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.ok("slow").delay(100);
+            }
+        });
+        executor = new RequestExecutor(1, 1, 8);
+
+        BlockingCallback<Response> first = new BlockingCallback<>();
+        BlockingCallback<Response> cancelled = new BlockingCallback<>();
+        executor.execute(params("/c/{id}", 1), first);
+        RequestCall call = executor.execute(params("/c/{id}", 2), cancelled);
+
+        assertTrue(call.cancel());
+        assertTrue(call.isCancelled());
+        assertTrue(first.await(5000));
+        assertFalse(cancelled.await(300));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void throwingCallback_isNotReportedAsRequestFailure() throws Exception {
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.ok("ok");
+            }
+        });
+        executor = new RequestExecutor(1, 1, 4);
+
+        BlockingCallback<Response> throwing = new BlockingCallback<Response>(2) {
+            @Override
+            public void onSuccess(Response data) {
+                super.onSuccess(data);
+                throw new IllegalStateException("bug no callback");
+            }
+        };
+        executor.execute(params("/t/{id}", 1), throwing);
+
+        assertFalse(throwing.await(300));
+        assertEquals(1, throwing.getDeliveries());
+        assertNull(throwing.getError());
+
+        // a vaga do host foi liberada
+        BlockingCallback<Response> next = new BlockingCallback<>();
+        executor.execute(params("/t/{id}", 2), next);
+        assertTrue(next.await(5000));
+        assertNull(next.getError());
+    }
+
+    @Test
+    public void executeStreaming_deliversBatchesFromGzipBody() throws Exception {
+        final StringBuilder feed = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            feed.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append('}');
+        }
+        feed.append(']');
+
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.ok(feed.toString()).gzip();
+            }
+        });
+        executor = new RequestExecutor();
+
+        final List<String> items = new ArrayList<>();
+        final BlockingCallback<Integer> done = new BlockingCallback<>();
+        JsonArrayDecoder<String> decoder = new JsonArrayDecoder<>(new JsonArrayDecoder.ItemParser<String>() {
+            @Override
+            public String parse(String json) {
+                return json;
+            }
+        }, 100, 1024);
+
+        executor.executeStreaming(params("/feed", 0), decoder, new StreamingCallback<String>() {
+            @Override
+            public void onBatch(List<String> batch) {
+                items.addAll(batch);
+            }
+
+            @Override
+            public void onComplete(int count) {
+                done.onSuccess(count);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                done.onError(ex);
+            }
+        });
+
+        assertTrue(done.await(5000));
+        assertNull(done.getError());
+        assertEquals(Integer.valueOf(1000), done.getData());
+        assertEquals(1000, items.size());
+        assertEquals("{\"id\":999}", items.get(999));
+    }
+
+    @Test
+    public void lowerCaseMethod_isSentInEnglishUpperCaseUnderAnyLocale() throws Exception {
+        server = new StubHttpServer(new StubHttpServer.Handler() {
+            @Override
+            public StubHttpServer.StubResponse handle(StubHttpServer.StubRequest request) {
+                return StubHttpServer.StubResponse.ok(request.method);
+            }
+        });
+        executor = new RequestExecutor(1, 1, 4);
+
+        Locale locale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            RequestParams params = params("/m", 0);
+            params.setMethod("get");
+            BlockingCallback<Response> callback = new BlockingCallback<>();
+            executor.execute(params, callback);
+            assertTrue(callback.await(5000));
+            assertEquals("GET", callback.getData().getBodyAsString());
+        }
+        finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    private RequestParams params(String endPoint, int id) {
+        RequestParams params = new RequestParams();
+        params.setBaseUrl(server.url("/"));
+        params.setEndPoint(endPoint);
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", id);
+        params.setParametersMap(values);
+        return params;
+    }
+}
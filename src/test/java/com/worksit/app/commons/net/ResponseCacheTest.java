@@ -0,0 +1,160 @@
+package com.worksit.app.commons.net;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ResponseCacheTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private File dir;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("http-cache", "");
+        dir.delete();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void get_missThenMemoryHit() {
+        ResponseCache cache = new ResponseCache(null, 1024, 0);
+
+        assertNull(cache.get("GET /a"));
+        cache.put("GET /a", response("/a", "body-a", "\"v1\""));
+
+        ResponseCache.Entry entry = cache.get("GET /a");
+        assertNotNull(entry);
+        assertEquals("\"v1\"", entry.getEtag());
+        assertEquals("body-a", entry.toResponse().getBodyAsString());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getMemoryHitCount());
+        assertEquals(6, cache.getBytesFromCache());
+    }
+
+    @Test
+    public void memory_evictsLeastRecentlyUsed() {
+        ResponseCache cache = new ResponseCache(null, 12, 0);
+        cache.put("a", response("/a", "aaaaaa", null));
+        cache.put("b", response("/b", "bbbbbb", null));
+        assertNotNull(cache.get("a"));
+
+        cache.put("c", response("/c", "cccccc", null));
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(12, cache.getMemorySize());
+    }
+
+    @Test
+    public void reopen_replaysJournalFromDisk() {
+        ResponseCache first = new ResponseCache(dir, 1024, 1024);
+        first.put("GET /a", response("/a", "body-a", "\"v1\""));
+        first.put("GET /b", response("/b", "body-b", null));
+        first.remove("GET /b");
+
+        ResponseCache reopened = new ResponseCache(dir, 1024, 1024);
+        ResponseCache.Entry entry = reopened.get("GET /a");
+
+        assertNotNull(entry);
+        assertEquals("body-a", entry.toResponse().getBodyAsString());
+        assertEquals("\"v1\"", entry.getEtag());
+        assertEquals(1, reopened.getDiskHitCount());
+        assertNull(reopened.get("GET /b"));
+        assertEquals(6, reopened.getDiskSize());
+
+        // o segundo acesso já vem da memória
+        assertNotNull(reopened.get("GET /a"));
+        assertEquals(1, reopened.getMemoryHitCount());
+    }
+
+    @Test
+    public void reopen_keepsTouchedStoreTime() throws Exception {
+        ResponseCache first = new ResponseCache(dir, 1024, 1024);
+        ResponseCache.Entry entry = first.put("GET /a", response("/a", "body-a", "\"v1\""));
+        entry.storedAt -= 60000;
+        first.touch(entry);
+
+        ResponseCache reopened = new ResponseCache(dir, 1024, 1024);
+        assertEquals(entry.getStoredAt(), reopened.get("GET /a").getStoredAt());
+    }
+
+    @Test
+    public void disk_evictsOldestPastLimit() {
+        ResponseCache first = new ResponseCache(dir, 1024, 12);
+        first.put("a", response("/a", "aaaaaa", null));
+        first.put("b", response("/b", "bbbbbb", null));
+        first.put("c", response("/c", "cccccc", null));
+
+        assertEquals(12, first.getDiskSize());
+        assertEquals(1, first.getEvictionCount());
+
+        ResponseCache reopened = new ResponseCache(dir, 1024, 12);
+        assertNull(reopened.get("a"));
+        assertNotNull(reopened.get("b"));
+        assertNotNull(reopened.get("c"));
+    }
+
+    @Test
+    public void reopen_ignoresTruncatedLastRecord() throws Exception {
+        ResponseCache first = new ResponseCache(dir, 1024, 1024);
+        first.put("GET /a", response("/a", "body-a", null));
+
+        FileOutputStream out = new FileOutputStream(new File(dir, "index"), true);
+        try {
+            out.write(new byte[]{1, 0, 40, 'G'});
+        }
+        finally {
+            out.close();
+        }
+
+        ResponseCache reopened = new ResponseCache(dir, 1024, 1024);
+        assertEquals("body-a", reopened.get("GET /a").toResponse().getBodyAsString());
+    }
+
+    @Test
+    public void missingBodyFile_isAMiss() {
+        ResponseCache first = new ResponseCache(dir, 1024, 1024);
+        first.put("GET /a", response("/a", "body-a", null));
+        for (File file : dir.listFiles()) {
+            if (!file.getName().equals("index"))
+                file.delete();
+        }
+
+        ResponseCache reopened = new ResponseCache(dir, 1024, 1024);
+        assertNull(reopened.get("GET /a"));
+        assertEquals(0, reopened.getDiskSize());
+    }
+
+    private static Response response(String url, String body, String etag) {
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Content-Type", Collections.singletonList("text/plain"));
+        if (etag != null)
+            headers.put("ETag", Collections.singletonList(etag));
+        return new Response(url, 200, headers, body.getBytes(UTF_8));
+    }
+}
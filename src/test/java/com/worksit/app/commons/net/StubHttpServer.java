@@ -0,0 +1,261 @@
+package com.worksit.app.commons.net;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Minimal HTTP/1.1 server bound to the loopback interface, used by the net tests.
+ * Supports keep-alive, Content-Length bodies and gzip.
+ */
+public class StubHttpServer {
+
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    public interface Handler {
+        StubResponse handle(StubRequest request) throws Exception;
+    }
+
+    public static class StubRequest {
+        public String method;
+        public String path;
+        public final Map<String, String> headers = new LinkedHashMap<>();
+        public byte[] body = new byte[0];
+
+        public String header(String name) {
+            return headers.get(name.toLowerCase());
+        }
+
+        public String bodyAsString() {
+            return new String(body, UTF_8);
+        }
+    }
+
+    public static class StubResponse {
+        int code = 200;
+        final Map<String, String> headers = new LinkedHashMap<>();
+        byte[] body = new byte[0];
+        long delayMillis;
+        boolean gzip;
+
+        public static StubResponse ok(String body) {
+            return new StubResponse().body(body);
+        }
+
+        public static StubResponse status(int code) {
+            StubResponse r = new StubResponse();
+            r.code = code;
+            return r;
+        }
+
+        public StubResponse body(String body) {
+            this.body = body.getBytes(UTF_8);
+            return this;
+        }
+
+        public StubResponse header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        public StubResponse delay(long millis) {
+            this.delayMillis = millis;
+            return this;
+        }
+
+        public StubResponse gzip() {
+            this.gzip = true;
+            return this;
+        }
+    }
+
+    private final ServerSocket serverSocket;
+    private final Handler handler;
+    private final List<Socket> sockets = new ArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private volatile boolean closed;
+
+    public StubHttpServer(Handler handler) throws IOException {
+        this.handler = handler;
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+
+        Thread acceptor = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                acceptLoop();
+            }
+        }, "StubHttpServer");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public String url(String path) {
+        return "http://127.0.0.1:" + serverSocket.getLocalPort() + path;
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxActive.get();
+    }
+
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        synchronized (sockets) {
+            for (Socket s : sockets) {
+                s.close();
+            }
+        }
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                final Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.incrementAndGet();
+                synchronized (sockets) {
+                    sockets.add(socket);
+                }
+                Thread t = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        serve(socket);
+                    }
+                }, "StubHttpServer-conn");
+                t.setDaemon(true);
+                t.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            StubRequest request;
+            while ((request = readRequest(in)) != null) {
+                requests.incrementAndGet();
+                int now = active.incrementAndGet();
+                int max;
+                while (now > (max = maxActive.get()) && !maxActive.compareAndSet(max, now)) {
+                    // retry
+                }
+
+                StubResponse response;
+                try {
+                    response = handler.handle(request);
+                    if (response.delayMillis > 0)
+                        Thread.sleep(response.delayMillis);
+                } catch (Exception e) {
+                    response = StubResponse.status(500).body(String.valueOf(e));
+                } finally {
+                    active.decrementAndGet();
+                }
+
+                boolean close = "close".equalsIgnoreCase(request.header("Connection"));
+                writeResponse(out, response, request, close);
+                if (close)
+                    break;
+            }
+            socket.close();
+        } catch (IOException e) {
+            // conexão encerrada pelo cliente
+        }
+    }
+
+    private static StubRequest readRequest(InputStream in) throws IOException {
+        String line = readLine(in);
+        if (line == null || line.isEmpty())
+            return null;
+
+        StubRequest request = new StubRequest();
+        String[] parts = line.split(" ");
+        request.method = parts[0];
+        request.path = parts[1];
+
+        while ((line = readLine(in)) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            request.headers.put(line.substring(0, colon).trim().toLowerCase(), line.substring(colon + 1).trim());
+        }
+
+        String length = request.header("Content-Length");
+        if (length != null) {
+            byte[] body = new byte[Integer.parseInt(length)];
+            int offset = 0;
+            while (offset < body.length) {
+                int read = in.read(body, offset, body.length - offset);
+                if (read < 0)
+                    throw new IOException("Truncated body");
+                offset += read;
+            }
+            request.body = body;
+        }
+        return request;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n')
+                return new String(line.toByteArray(), UTF_8).replace("\r", "");
+            line.write(c);
+        }
+        return line.size() == 0 ? null : new String(line.toByteArray(), UTF_8);
+    }
+
+    private static void writeResponse(OutputStream out, StubResponse response, StubRequest request, boolean close) throws IOException {
+        byte[] body = response.body;
+        String acceptEncoding = request.header("Accept-Encoding");
+        boolean gzip = response.gzip && acceptEncoding != null && acceptEncoding.contains("gzip");
+        if (gzip) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            GZIPOutputStream gz = new GZIPOutputStream(bytes);
+            gz.write(body);
+            gz.close();
+            body = bytes.toByteArray();
+        }
+
+        StringBuilder head = new StringBuilder();
+        head.append("HTTP/1.1 ").append(response.code).append(" Stub\r\n");
+        for (Map.Entry<String, String> h : response.headers.entrySet()) {
+            head.append(h.getKey()).append(": ").append(h.getValue()).append("\r\n");
+        }
+        if (gzip)
+            head.append("Content-Encoding: gzip\r\n");
+        if (close)
+            head.append("Connection: close\r\n");
+        head.append("Content-Length: ").append(body.length).append("\r\n\r\n");
+
+        ByteArrayOutputStream packet = new ByteArrayOutputStream();
+        packet.write(head.toString().getBytes(UTF_8));
+        packet.write(body);
+        out.write(packet.toByteArray());
+        out.flush();
+    }
+}
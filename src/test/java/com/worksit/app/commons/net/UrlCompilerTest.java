@@ -0,0 +1,113 @@
+package com.worksit.app.commons.net;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class UrlCompilerTest {
+
+    @Test
+    public void placeholders_areEncodedAsValues() {
+        UrlCompiler compiler = UrlCompiler.compile("https://api.host/v1/users/{id}/files/{name}", null);
+        Map<String, Object> path = new LinkedHashMap<>();
+        path.put("id", 42L);
+        path.put("name", "relatório 2026/01?.pdf");
+
+        assertArrayEquals(new String[]{"id", "name"}, compiler.getPlaceholders());
+        assertEquals("https://api.host/v1/users/42/files/relat%C3%B3rio%202026%2F01%3F.pdf", compiler.build(path));
+    }
+
+    @Test
+    public void template_keepsReservedCharsAndEscapes() {
+        UrlCompiler compiler = UrlCompiler.compile("https://user@api.host:8080/a;b/c,d/%20e/ã f", null);
+        assertEquals("https://user@api.host:8080/a;b/c,d/%20e/%C3%A3%20f", compiler.build(null));
+    }
+
+    @Test
+    public void queries_followAnExistingQuery() {
+        Map<String, Object> constant = new LinkedHashMap<>();
+        constant.put("lang", "pt-BR");
+        constant.put("skip", null);
+        Map<String, Object> variable = new LinkedHashMap<>();
+        variable.put("q", "a&b=c");
+        variable.put("page", 2);
+
+        assertEquals("https://h/s?v=1&lang=pt-BR&q=a%26b%3Dc&page=2",
+                UrlCompiler.compile("https://h/s?v=1", constant).build(null, variable));
+        assertEquals("https://h/s?lang=pt-BR&q=a%26b%3Dc&page=2",
+                UrlCompiler.compile("https://h/s", constant).build(null, variable));
+        assertEquals("https://h/s?page=3",
+                UrlCompiler.compile("https://h/s", null).build(new ParamBag(), new ParamBag().put("page", 3)));
+    }
+
+    @Test
+    public void fragment_isWrittenAfterTheQueries() {
+        Map<String, Object> constant = new LinkedHashMap<>();
+        constant.put("lang", "pt");
+
+        UrlCompiler compiler = UrlCompiler.compile("https://h/docs/{id}#seção?x", constant);
+        Map<String, Object> path = new LinkedHashMap<>();
+        path.put("id", 7);
+        Map<String, Object> variable = new LinkedHashMap<>();
+        variable.put("v", true);
+
+        assertEquals("https://h/docs/7?lang=pt&v=true#se%C3%A7%C3%A3o?x", compiler.build(path, variable));
+        assertEquals("https://h/docs/7?lang=pt#se%C3%A7%C3%A3o?x", compiler.build(path));
+        assertEquals("https://h/p?a=1#top",
+                UrlCompiler.compile("https://h/p#top", null).build(new ParamBag(), new ParamBag().put("a", 1)));
+    }
+
+    @Test
+    public void missingPlaceholder_isRejected() {
+        UrlCompiler compiler = UrlCompiler.compile("https://h/users/{id}", null);
+        try {
+            compiler.build(new LinkedHashMap<String, Object>());
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("{id}"));
+        }
+        try {
+            compiler.build(new ParamBag().put("other", 1), null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("{id}"));
+        }
+        try {
+            UrlCompiler.compile("https://h/users/{id", null);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void requestParams_joinBaseUrlAndEndPoint() {
+        RequestParams params = new RequestParams();
+        params.setBaseUrl("https://h/v1/");
+        params.setEndPoint("/users/{id}");
+        params.setParametersBag(new ParamBag().put("id", "a b"));
+        params.setQueriesBag(new ParamBag().put("full", true));
+
+        assertEquals("https://h/v1/users/a%20b?full=true", UrlCompiler.toUrl(params));
+
+        params.setBaseUrl("https://h/v1");
+        params.setEndPoint("users/{id}");
+        assertEquals("https://h/v1/users/a%20b?full=true", UrlCompiler.toUrl(params));
+    }
+
+    @Test
+    public void encoding_handlesSurrogatePairs() {
+        StringBuilder sb = new StringBuilder();
+        UrlEncoding.appendEncoded(sb, "a😀~");
+        assertEquals("a%F0%9F%98%80~", sb.toString());
+
+        sb.setLength(0);
+        UrlEncoding.appendValue(sb, 1.5);
+        assertEquals("1.5", sb.toString());
+    }
+}
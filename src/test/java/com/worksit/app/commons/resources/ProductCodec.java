@@ -0,0 +1,158 @@
+package com.worksit.app.commons.resources;
+
+import com.worksit.app.commons.callbacks.StreamingCallback;
+import com.worksit.app.commons.net.JsonArrayDecoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codec of a JSON array of products, "[{"id":1,"name":"...","price":1990}, ...]". The snapshot
+ * is an offset table followed by the records, and {@link #read} returns a list that decodes
+ * each product only when it is read.
+ */
+class ProductCodec implements RawSnapshots.Codec<List<ProductCodec.Product>> {
+
+    static final class Product {
+        final int id;
+        final String name;
+        final long price;
+
+        Product(int id, String name, long price) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Product))
+                return false;
+            Product that = (Product) o;
+            return id == that.id && price == that.price && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+
+        @Override
+        public String toString() {
+            return id + ":" + name + ":" + price;
+        }
+    }
+
+    int version = 1;
+    int parses;
+
+    static String json(int count) {
+        StringBuilder sb = new StringBuilder(count * 64).append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0)
+                sb.append(",\n");
+            sb.append("{\"id\":").append(i)
+                    .append(",\"name\":\"Produto ").append(i).append(" – São Paulo\"")
+                    .append(",\"price\":").append(i * 10 + 90).append('}');
+        }
+        return sb.append(']').toString();
+    }
+
+    @Override
+    public int version() {
+        return version;
+    }
+
+    @Override
+    public List<Product> parse(RawResource resource) throws IOException {
+        parses++;
+        final List<Product> products = new ArrayList<>();
+        JsonArrayDecoder<Product> decoder = new JsonArrayDecoder<>(new JsonArrayDecoder.ItemParser<Product>() {
+            @Override
+            public Product parse(String json) {
+                return new Product(Integer.parseInt(field(json, "id")), field(json, "name"),
+                        Long.parseLong(field(json, "price")));
+            }
+        });
+        try {
+            decoder.decode(new StringReader(resource.text(RawResource.UTF_8)), new StreamingCallback<Product>() {
+                @Override
+                public void onBatch(List<Product> items) {
+                    products.addAll(items);
+                }
+
+                @Override
+                public void onComplete(int count) {
+                }
+
+                @Override
+                public void onError(Exception ex) {
+                }
+            });
+        }
+        catch (IOException e) {
+            throw e;
+        }
+        catch (Exception e) {
+            throw new IOException(e);
+        }
+        return products;
+    }
+
+    @Override
+    public void write(List<Product> products, DataOutputStream out) throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(records);
+        out.writeInt(products.size());
+        for (Product product : products) {
+            out.writeInt(data.size());
+            byte[] name = product.name.getBytes(RawResource.UTF_8);
+            data.writeInt(product.id);
+            data.writeLong(product.price);
+            data.writeInt(name.length);
+            data.write(name);
+        }
+        records.writeTo(out);
+    }
+
+    @Override
+    public List<Product> read(final ByteBuffer snapshot) {
+        final int size = snapshot.getInt(0);
+        final int recordsStart = 4 + size * 4;
+        return new AbstractList<Product>() {
+            @Override
+            public Product get(int index) {
+                if (index < 0 || index >= size)
+                    throw new IndexOutOfBoundsException("Index: " + index);
+                int at = recordsStart + snapshot.getInt(4 + index * 4);
+                byte[] name = new byte[snapshot.getInt(at + 12)];
+                ByteBuffer view = snapshot.duplicate();
+                view.position(at + 16);
+                view.get(name);
+                return new Product(snapshot.getInt(at), new String(name, RawResource.UTF_8), snapshot.getLong(at + 4));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static String field(String json, String name) {
+        int start = json.indexOf("\"" + name + "\":") + name.length() + 3;
+        if (json.charAt(start) == '"')
+            return json.substring(start + 1, json.indexOf('"', start + 1));
+        int end = start;
+        while (end < json.length() && json.charAt(end) != ',' && json.charAt(end) != '}') {
+            end++;
+        }
+        return json.substring(start, end);
+    }
+}
@@ -0,0 +1,191 @@
+package com.worksit.app.commons.resources;
+
+import android.content.ComponentCallbacks2;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RawResourceCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void get_loadsOnceAndThenHits() throws Exception {
+        RawResourceCache cache = new RawResourceCache(text(10), 1024, executor);
+
+        assertEquals("##########", cache.get(1));
+        assertEquals("##########", cache.get(1));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(20, cache.getSize());
+    }
+
+    @Test
+    public void leastRecentlyUsed_isEvictedByDecodedSize() throws Exception {
+        // 10 chars = 20 bytes; cabem 3 entradas
+        RawResourceCache cache = new RawResourceCache(text(10), 60, executor);
+        cache.get(1);
+        cache.get(2);
+        cache.get(3);
+        cache.get(1);
+        cache.get(4);
+
+        assertNull(cache.getIfPresent(2));
+        assertNotNull(cache.getIfPresent(1));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(60, cache.getSize());
+    }
+
+    @Test
+    public void concurrentGets_shareOneLoad() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final RawResourceCache cache = new RawResourceCache(new RawResourceCache.Loader() {
+            @Override
+            public String load(int id) throws IOException {
+                loads.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                return "shared";
+            }
+        }, 1024, executor);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return cache.get(7);
+                }
+            }));
+        }
+        while (cache.getMissCount() < 4) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("shared", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(3, cache.getSharedLoadCount());
+    }
+
+    @Test
+    public void prefetch_loadsInTheBackground() throws Exception {
+        RawResourceCache cache = new RawResourceCache(text(4), 1024, executor);
+        cache.prefetch(1, 2, 3);
+        cache.prefetch(1);
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(3, loads.get());
+        assertEquals(3, cache.getPrefetchCount());
+        assertEquals("####", cache.getIfPresent(2));
+        assertEquals("####", cache.get(3));
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void get_takesOverPrefetchStillQueued() throws Exception {
+        final List<Runnable> queued = new ArrayList<>();
+        RawResourceCache cache = new RawResourceCache(text(4), 1024, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                // executor saturado: o prefetch nunca roda
+                queued.add(command);
+            }
+        });
+        cache.prefetch(1);
+
+        assertEquals("####", cache.get(1));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getSharedLoadCount());
+
+        // quando o executor finalmente chega na tarefa ela não carrega de novo
+        queued.get(0).run();
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void failedLoad_isReportedAndNotCached() throws Exception {
+        RawResourceCache cache = new RawResourceCache(new RawResourceCache.Loader() {
+            @Override
+            public String load(int id) throws IOException {
+                loads.incrementAndGet();
+                throw new FileNotFoundException("raw/" + id);
+            }
+        }, 1024, executor);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.get(5);
+                fail();
+            }
+            catch (FileNotFoundException expected) {
+                assertEquals("raw/5", expected.getMessage());
+            }
+        }
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.getLoadFailureCount());
+    }
+
+    @Test
+    public void onTrimMemory_shrinksByLevel() throws Exception {
+        RawResourceCache cache = new RawResourceCache(text(10), 80, executor);
+        for (int id = 1; id <= 4; id++) {
+            cache.get(id);
+        }
+
+        cache.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+        assertEquals(80, cache.getSize());
+        cache.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+        assertEquals(40, cache.getSize());
+        assertNotNull(cache.getIfPresent(4));
+        cache.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_MODERATE);
+        assertEquals(20, cache.getSize());
+        cache.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        assertEquals(0, cache.getSize());
+    }
+
+    private RawResourceCache.Loader text(final int length) {
+        return new RawResourceCache.Loader() {
+            @Override
+            public String load(int id) {
+                loads.incrementAndGet();
+                StringBuilder sb = new StringBuilder(length);
+                for (int i = 0; i < length; i++) {
+                    sb.append('#');
+                }
+                return sb.toString();
+            }
+        };
+    }
+}
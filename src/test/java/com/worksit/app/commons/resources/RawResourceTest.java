@@ -0,0 +1,141 @@
+package com.worksit.app.commons.resources;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RawResourceTest {
+
+    private static final String TEXT = "cep;cidade\r\n01001000;São Paulo\n\n20040002;Rio de Janeiro";
+
+    @Test
+    public void text_keepsLineBreaksAndDecodesUtf8() throws Exception {
+        assertEquals(TEXT, stream(TEXT).text(RawResource.UTF_8));
+        assertEquals(TEXT, mapped(TEXT).text(RawResource.UTF_8));
+    }
+
+    @Test
+    public void lines_areTheSameForMappedAndStreamedResources() throws Exception {
+        List<String> expected = new ArrayList<>();
+        expected.add("cep;cidade");
+        expected.add("01001000;São Paulo");
+        expected.add("");
+        expected.add("20040002;Rio de Janeiro");
+
+        assertEquals(expected, readAll(mapped(TEXT).lines(RawResource.UTF_8)));
+        assertEquals(expected, readAll(stream(TEXT).lines(RawResource.UTF_8)));
+    }
+
+    @Test
+    public void lines_spanningStreamChunks_areReassembled() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append(i).append(';');
+            for (int k = 0; k < i % 37; k++) {
+                sb.append('ç');
+            }
+            sb.append('\n');
+        }
+
+        LineReader reader = stream(sb.toString()).lines(RawResource.UTF_8);
+        List<String> lines = readAll(reader);
+
+        assertEquals(2000, lines.size());
+        assertEquals(2000, reader.getLineNumber());
+        assertEquals(readAll(mapped(sb.toString()).lines(RawResource.UTF_8)), lines);
+        assertEquals("1999;ç", lines.get(1999));
+    }
+
+    @Test
+    public void records_splitOnTheDelimiter() throws Exception {
+        List<String> records = readAll(mapped("a;b;;c").records(';', RawResource.UTF_8));
+
+        assertEquals(4, records.size());
+        assertEquals("", records.get(2));
+        assertEquals("c", records.get(3));
+    }
+
+    @Test
+    public void chars_ofAsciiText_isAViewOfTheBytes() throws Exception {
+        CharSequence chars = mapped("01001000;SP").chars(RawResource.UTF_8);
+
+        assertTrue(chars instanceof ByteCharSequence);
+        assertEquals(11, chars.length());
+        assertEquals('S', chars.charAt(9));
+        assertEquals("1000", chars.subSequence(4, 8).toString());
+    }
+
+    @Test
+    public void chars_ofNonAsciiUtf8_isDecoded() throws Exception {
+        CharSequence chars = mapped("São").chars(RawResource.UTF_8);
+
+        assertFalse(chars instanceof ByteCharSequence);
+        assertEquals("São", chars.toString());
+    }
+
+    @Test
+    public void bytes_ofStreamedResource_canBeReadRepeatedly() throws Exception {
+        RawResource raw = stream(TEXT);
+        ByteBuffer first = raw.bytes();
+        ByteBuffer second = raw.bytes();
+
+        assertEquals(first, second);
+        assertTrue(first.isReadOnly());
+        assertEquals(TEXT, raw.text(RawResource.UTF_8));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void streamedResource_cannotBeReadTwiceByLineReaders() throws Exception {
+        RawResource raw = stream(TEXT);
+        readAll(raw.lines(RawResource.UTF_8));
+        raw.lines(RawResource.UTF_8);
+    }
+
+    private static RawResource stream(String text) {
+        return new RawResource(new ByteArrayInputStream(text.getBytes(RawResource.UTF_8)));
+    }
+
+    private static RawResource mapped(String text) throws IOException {
+        File file = File.createTempFile("raw", ".txt");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(text.getBytes(RawResource.UTF_8));
+        }
+        finally {
+            out.close();
+        }
+
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            return new RawResource(raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length()));
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    private static List<String> readAll(LineReader reader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        finally {
+            reader.close();
+        }
+        return lines;
+    }
+}
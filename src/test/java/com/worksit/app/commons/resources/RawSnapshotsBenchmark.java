@@ -0,0 +1,99 @@
+package com.worksit.app.commons.resources;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Warm start cost of a bundled JSON resource: parsing the text on every launch against loading
+ * the {@link RawSnapshots} snapshot written by the first one, reading every item in both cases.
+ *
+ * Skipped unless run with -Pbenchmark=true.
+ */
+public class RawSnapshotsBenchmark {
+
+    private static final int PRODUCTS = 20000;
+    private static final int ROUNDS = 20;
+
+    private File dir;
+
+    @Before
+    public void setUp() throws IOException {
+        Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+
+        dir = File.createTempFile("snapshots", "");
+        dir.delete();
+    }
+
+    @After
+    public void tearDown() {
+        if (dir == null)
+            return;
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void coldParseVsSnapshot() throws Exception {
+        RawSnapshotsTest.Source source = new RawSnapshotsTest.Source(ProductCodec.json(PRODUCTS));
+        ProductCodec codec = new ProductCodec();
+        new RawSnapshots(source, dir, 1, 1L).load(1, codec);
+
+        cold(source, codec, ROUNDS / 4);
+        snapshot(source, codec, ROUNDS / 4);
+
+        long start = System.nanoTime();
+        long coldCheck = cold(source, codec, ROUNDS);
+        long coldNanos = System.nanoTime() - start;
+
+        int parses = codec.parses;
+        start = System.nanoTime();
+        long snapshotCheck = snapshot(source, codec, ROUNDS);
+        long snapshotNanos = System.nanoTime() - start;
+
+        System.out.println(String.format("RawSnapshotsBenchmark parse   : %.2f ms/launch, %d products",
+                coldNanos / 1e6 / ROUNDS, PRODUCTS));
+        System.out.println(String.format("RawSnapshotsBenchmark snapshot: %.2f ms/launch, %d products",
+                snapshotNanos / 1e6 / ROUNDS, PRODUCTS));
+
+        assertEquals(coldCheck, snapshotCheck);
+        assertEquals(parses, codec.parses);
+        assertTrue(snapshotNanos < coldNanos);
+    }
+
+    private static long cold(RawSnapshotsTest.Source source, ProductCodec codec, int rounds) throws IOException {
+        long check = 0;
+        for (int round = 0; round < rounds; round++) {
+            check += sum(codec.parse(source.open(1)));
+        }
+        return check;
+    }
+
+    private long snapshot(RawSnapshotsTest.Source source, ProductCodec codec, int rounds) throws IOException {
+        long check = 0;
+        for (int round = 0; round < rounds; round++) {
+            check += sum(new RawSnapshots(source, dir, 1, 1L).load(1, codec));
+        }
+        return check;
+    }
+
+    private static long sum(List<ProductCodec.Product> products) {
+        long check = 0;
+        for (ProductCodec.Product product : products) {
+            check += product.price + product.name.length();
+        }
+        return check;
+    }
+}
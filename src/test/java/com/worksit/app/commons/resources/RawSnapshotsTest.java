@@ -0,0 +1,144 @@
+package com.worksit.app.commons.resources;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RawSnapshotsTest {
+
+    private static final int ID = 0x7f0c0001;
+
+    private File dir;
+    private Source source;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("snapshots", "");
+        dir.delete();
+        source = new Source(ProductCodec.json(50));
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void firstLoadParses_laterLoadsReadTheSnapshot() throws Exception {
+        ProductCodec codec = new ProductCodec();
+        List<ProductCodec.Product> parsed = new RawSnapshots(source, dir, 10, 1000L).load(ID, codec);
+
+        RawSnapshots nextLaunch = new RawSnapshots(source, dir, 10, 1000L);
+        assertTrue(nextLaunch.hasSnapshot(ID));
+        List<ProductCodec.Product> loaded = nextLaunch.load(ID, codec);
+
+        assertEquals(50, loaded.size());
+        assertEquals(parsed, loaded);
+        assertEquals("Produto 7 – São Paulo", loaded.get(7).name);
+        assertEquals(1, codec.parses);
+        assertEquals(1, source.opens);
+        assertEquals(1, nextLaunch.getSnapshotLoads());
+        assertEquals(0, nextLaunch.getColdParses());
+    }
+
+    @Test
+    public void apkUpdate_discardsSnapshots() throws Exception {
+        ProductCodec codec = new ProductCodec();
+        new RawSnapshots(source, dir, 10, 1000L).load(ID, codec);
+
+        RawSnapshots updated = new RawSnapshots(source, dir, 11, 2000L);
+        updated.load(ID, codec);
+
+        assertEquals(2, codec.parses);
+        assertEquals(1, updated.getColdParses());
+        assertTrue(updated.getStaleSnapshots() > 0);
+        assertEquals(50, new RawSnapshots(source, dir, 11, 2000L).load(ID, codec).size());
+        assertEquals(2, codec.parses);
+    }
+
+    @Test
+    public void codecVersionChange_rebuildsTheSnapshot() throws Exception {
+        ProductCodec codec = new ProductCodec();
+        new RawSnapshots(source, dir, 10, 1000L).load(ID, codec);
+
+        codec.version = 2;
+        RawSnapshots snapshots = new RawSnapshots(source, dir, 10, 1000L);
+        assertEquals(50, snapshots.load(ID, codec).size());
+        assertEquals(1, snapshots.getStaleSnapshots());
+        assertEquals(2, codec.parses);
+
+        new RawSnapshots(source, dir, 10, 1000L).load(ID, codec);
+        assertEquals(2, codec.parses);
+    }
+
+    @Test
+    public void truncatedSnapshot_isRebuilt() throws Exception {
+        ProductCodec codec = new ProductCodec();
+        RawSnapshots snapshots = new RawSnapshots(source, dir, 10, 1000L);
+        snapshots.load(ID, codec);
+
+        File file = dir.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File d, String name) {
+                return name.endsWith(".snapshot");
+            }
+        })[0];
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(raf.length() - 10);
+        raf.close();
+
+        List<ProductCodec.Product> loaded = snapshots.load(ID, codec);
+        assertEquals(50, loaded.size());
+        assertEquals(2, codec.parses);
+        assertEquals(1, snapshots.getStaleSnapshots());
+        assertEquals(0, snapshots.getWriteFailures());
+    }
+
+    @Test
+    public void invalidate_dropsOneSnapshot() throws Exception {
+        ProductCodec codec = new ProductCodec();
+        RawSnapshots snapshots = new RawSnapshots(source, dir, 10, 1000L);
+        snapshots.load(ID, codec);
+        snapshots.load(ID + 1, codec);
+        snapshots.load(1, codec);
+        assertEquals(0, snapshots.getWriteFailures());
+
+        snapshots.invalidate(ID);
+        assertFalse(snapshots.hasSnapshot(ID));
+        assertTrue(snapshots.hasSnapshot(ID + 1));
+
+        snapshots.clear();
+        assertFalse(snapshots.hasSnapshot(ID + 1));
+        assertFalse(snapshots.hasSnapshot(1));
+    }
+
+    static final class Source implements RawSnapshots.Source {
+        private final byte[] bytes;
+        int opens;
+
+        Source(String text) {
+            bytes = text.getBytes(RawResource.UTF_8);
+        }
+
+        @Override
+        public RawResource open(int id) {
+            opens++;
+            return new RawResource(ByteBuffer.wrap(bytes));
+        }
+    }
+}